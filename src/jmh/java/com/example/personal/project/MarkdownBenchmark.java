@@ -0,0 +1,72 @@
+package com.example.personal.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommonUtil.markdown 벤치마크입니다.
+ * render는 캐시를 끈 상태(매번 파싱 + 렌더링), cached는 같은 본문을 다시 요청한 경우를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownBenchmark {
+
+    // 짧은 답변, 일반적인 질문, 코드가 많은 긴 글
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private CommonUtil uncached;
+    private CommonUtil cached;
+    private String source;
+
+    @Setup
+    public void setUp() {
+        this.uncached = new CommonUtil(0);
+        this.cached = new CommonUtil(8 * 1024 * 1024);
+        this.source = switch (this.size) {
+            case "short" -> post(1);
+            case "medium" -> post(8);
+            default -> post(40);
+        };
+        this.cached.markdown(this.source);
+    }
+
+    @Benchmark
+    public String render() {
+        return this.uncached.markdown(this.source);
+    }
+
+    @Benchmark
+    public String cached() {
+        return this.cached.markdown(this.source);
+    }
+
+    // 문단, 목록, 코드 블록, 링크가 섞인 게시글을 만듭니다. (섹션 하나에 약 500자)
+    static String post(int sections) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= sections; i++) {
+            sb.append("## ").append(i).append(". JPA 엔티티 조회 질문\n\n")
+                    .append("질문 목록을 조회할 때 **N+1 문제**가 발생하는 것 같습니다. ")
+                    .append("`findAll`을 호출하면 작성자마다 쿼리가 한 번씩 더 실행됩니다. ")
+                    .append("[공식 문서](https://docs.spring.io/spring-data/jpa/reference/)를 참고했지만 해결하지 못했습니다.\n\n")
+                    .append("- fetch join을 사용해 보았습니다.\n")
+                    .append("- `@EntityGraph`도 적용해 보았습니다.\n")
+                    .append("- 배치 크기를 *50*으로 설정했습니다.\n\n")
+                    .append("```java\n")
+                    .append("@Query(\"select q from Question q join fetch q.author\")\n")
+                    .append("List<Question> findAllWithAuthor();\n")
+                    .append("```\n\n")
+                    .append("> 페이징과 fetch join을 함께 쓰면 경고가 나옵니다.\n\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.PersonalProjectApplication;
+import com.example.personal.project.answer.AnswerService;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질문 검색 벤치마크입니다. H2 메모리 데이터베이스로 애플리케이션을 띄워 데이터를 넣은 뒤
+ * QuestionService.getList의 두 검색 방식, Specification 쿼리(LIKE + 조인 + distinct + count)와 역색인 검색을 비교합니다.
+ * 검색 방식은 question.search.rebuild-on-startup으로 고릅니다. (false이면 색인이 준비되지 않아 LIKE 검색을 사용합니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionSearchBenchmark {
+
+    private static final int USERS = 20;
+    private static final int ANSWERS_PER_QUESTION = 3;
+    private static final String[] TOPICS = {"스프링", "JPA", "타임리프", "시큐리티", "페이징", "마크다운", "MySQL", "Gradle"};
+
+    @Param({"2000"})
+    public int questions;
+
+    // 흔한 단어, 드문 단어, 없는 단어
+    @Param({"스프링", "Gradle 빌드", "없는검색어"})
+    public String kw;
+
+    @Param({"index", "like"})
+    public String source;
+
+    private ConfigurableApplicationContext context;
+    private QuestionRepository questionRepository;
+    private QuestionService questionService;
+    private Category category;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 명령행 인자는 application.properties보다 우선하므로 MySQL 대신 H2를 사용합니다.
+        this.context = new SpringApplicationBuilder(PersonalProjectApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.mail.host=localhost",
+                "--question.search.rebuild-on-startup=" + "index".equals(this.source),
+                "--logging.level.root=WARN");
+
+        this.questionRepository = this.context.getBean(QuestionRepository.class);
+        this.questionService = this.context.getBean(QuestionService.class);
+        this.category = this.context.getBean(CategoryService.class).getCategoryByTitle("qna");
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Page<Question> search() {
+        return this.questionService.getList(0, this.kw, this.category);
+    }
+
+    private void seed() {
+        UserService userService = this.context.getBean(UserService.class);
+        AnswerService answerService = this.context.getBean(AnswerService.class);
+
+        List<SiteUser> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userService.create("user" + i, "user" + i + "@example.com", "password"));
+        }
+
+        for (int i = 0; i < this.questions; i++) {
+            String topic = TOPICS[i % TOPICS.length];
+            SiteUser author = users.get(i % USERS);
+            this.questionService.create(topic + " 질문입니다 " + i,
+                    topic + " 설정을 바꾸었는데 동작하지 않습니다. 어떤 부분을 확인해야 할까요? (" + i + ")",
+                    author, this.category);
+        }
+
+        Pageable all = PageRequest.of(0, this.questions);
+        for (Question question : this.questionRepository.findByCategory(this.category, all)) {
+            for (int j = 0; j < ANSWERS_PER_QUESTION; j++) {
+                answerService.create(question, TOPICS[(question.getId() + j) % TOPICS.length] + " 문서를 확인해 보세요.",
+                        users.get((question.getId() + j) % USERS));
+            }
+        }
+    }
+}
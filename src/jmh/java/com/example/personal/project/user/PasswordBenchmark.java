@@ -0,0 +1,51 @@
+package com.example.personal.project.user;
+
+import com.example.personal.project.security.PasswordEncoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 관련 벤치마크입니다.
+ * 임시 비밀번호 생성과 애플리케이션이 사용하는 PasswordEncoder의 인코딩/비교를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordBenchmark {
+
+    private static final String RAW_PASSWORD = "question1234!";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        // SecurityConfig의 PasswordEncoder 빈과 같은 팩터리로 만듭니다. (타이머 기록 비용도 포함됩니다.)
+        this.passwordEncoder = PasswordEncoders.create(new SimpleMeterRegistry());
+        this.encodedPassword = this.passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String generateRandomPassword() {
+        return UserController.PasswordGenerator.generateRandomPassword();
+    }
+
+    @Benchmark
+    public String encode() {
+        return this.passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return this.passwordEncoder.matches(RAW_PASSWORD, this.encodedPassword);
+    }
+}
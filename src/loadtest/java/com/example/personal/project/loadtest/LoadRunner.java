@@ -0,0 +1,127 @@
+package com.example.personal.project.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 가상 사용자가 정해진 시간 동안 요청을 반복하도록 하고 요청 종류별 처리량과 응답 시간 분포를 계산합니다.
+ * 응답 시간은 요청 종류별 HdrHistogram(나노초, 유효 숫자 3자리)에 기록합니다.
+ * 요청을 보내는 쪽은 서버의 스레드 모드와 관계없이 항상 가상 스레드를 사용합니다.
+ */
+public class LoadRunner {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    // 가상 사용자 한 명이 한 번 실행할 요청입니다. 응답 상태 코드를 반환합니다.
+    @FunctionalInterface
+    public interface Step {
+        int execute(VirtualUser user, ThreadLocalRandom random) throws Exception;
+    }
+
+    // 요청 종류와 비중. 가상 사용자는 매번 비중에 따라 요청 종류를 고릅니다.
+    public record Scenario(String name, int weight, Step step) {
+    }
+
+    // histogram: HdrHistogram 압축 인코딩(Base64). HistogramLogAnalyzer 등으로 다시 읽을 수 있습니다.
+    public record Result(String name, long requests, long errors, double throughput,
+                         double p50Millis, double p95Millis, double p99Millis, double p999Millis, double maxMillis,
+                         String histogram) {
+    }
+
+    public static Result run(String name,
+                             List<VirtualUser> users,
+                             Duration duration,
+                             Step step) throws InterruptedException {
+
+        return run(users, duration, List.of(new Scenario(name, 1, step))).get(0);
+    }
+
+    public static List<Result> run(List<VirtualUser> users,
+                                   Duration duration,
+                                   List<Scenario> mix) throws InterruptedException {
+
+        int[] cumulative = new int[mix.size()];
+        Recorder[] recorders = new Recorder[mix.size()];
+        LongAdder[] errors = new LongAdder[mix.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            totalWeight += mix.get(i).weight();
+            cumulative[i] = totalWeight;
+            recorders[i] = new Recorder(SIGNIFICANT_DIGITS);
+            errors[i] = new LongAdder();
+        }
+        int bound = totalWeight;
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(users.size());
+        for (VirtualUser user : users) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int index = pick(cumulative, random.nextInt(bound));
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = mix.get(index).step().execute(user, random);
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        recorders[index].recordValue(System.nanoTime() - start);
+                        if (status < 200 || status >= 400) {
+                            errors[index].increment();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+
+        double seconds = duration.toNanos() / 1e9;
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < mix.size(); i++) {
+            results.add(result(mix.get(i).name(), recorders[i].getIntervalHistogram(), errors[i].sum(), seconds));
+        }
+        return results;
+    }
+
+    private static int pick(int[] cumulative,
+                            int value) {
+
+        int index = Arrays.binarySearch(cumulative, value + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static Result result(String name,
+                                 Histogram histogram,
+                                 long errors,
+                                 double seconds) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        String encoded = Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+
+        long requests = histogram.getTotalCount();
+        return new Result(name, requests, errors, requests / seconds,
+                millis(histogram, 50), millis(histogram, 95), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1e6, encoded);
+    }
+
+    private static double millis(Histogram histogram,
+                                 double percentile) {
+
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.personal.project.loadtest;
+
+import com.example.personal.project.PersonalProjectApplication;
+import com.example.personal.project.answer.AnswerService;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.note.Note;
+import com.example.personal.project.note.NoteService;
+import com.example.personal.project.notebook.Notebook;
+import com.example.personal.project.notebook.NotebookService;
+import com.example.personal.project.question.Question;
+import com.example.personal.project.question.QuestionRepository;
+import com.example.personal.project.question.QuestionService;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용으로 H2 메모리 데이터베이스를 사용해 애플리케이션을 같은 프로세스 안에서 띄우고 데이터를 넣습니다.
+ */
+public class LoadTestServer implements AutoCloseable {
+
+    public static final String CATEGORY = "qna";
+    public static final String PASSWORD = "password1234";
+
+    private static final int ACCOUNTS = 20;
+    private static final int QUESTIONS = 500;
+    private static final int ANSWERS_PER_QUESTION = 5;
+    private static final int NOTEBOOKS = 10;
+    private static final int NOTES_PER_NOTEBOOK = 10;
+
+    private final ConfigurableApplicationContext context;
+    private final List<String> usernames = new ArrayList<>();
+    private final List<Integer> questionIds = new ArrayList<>();
+    private final List<String> notePaths = new ArrayList<>();
+
+    private LoadTestServer(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * @param name     데이터베이스 이름 (실행마다 다르게 지정합니다.)
+     * @param virtual  가상 스레드 모드 여부
+     * @param poolSize 커넥션 풀 크기
+     */
+    public static LoadTestServer start(String name,
+                                       boolean virtual,
+                                       int poolSize,
+                                       String... extraArgs) {
+
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.mail.host=localhost",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+
+        LoadTestServer server = new LoadTestServer(
+                new SpringApplicationBuilder(PersonalProjectApplication.class).run(args.toArray(new String[0])));
+        server.seed();
+        return server;
+    }
+
+    public String getBaseUrl() {
+        int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    public List<String> getUsernames() {
+        return this.usernames;
+    }
+
+    public List<Integer> getQuestionIds() {
+        return this.questionIds;
+    }
+
+    // 노트 화면 경로 (/books/{notebookId}/notes/{id})
+    public List<String> getNotePaths() {
+        return this.notePaths;
+    }
+
+    public ConfigurableApplicationContext getContext() {
+        return this.context;
+    }
+
+    @Override
+    public void close() {
+        this.context.close();
+    }
+
+    private void seed() {
+        UserService userService = this.context.getBean(UserService.class);
+        QuestionService questionService = this.context.getBean(QuestionService.class);
+        AnswerService answerService = this.context.getBean(AnswerService.class);
+        Category category = this.context.getBean(CategoryService.class).getCategoryByTitle(CATEGORY);
+
+        List<SiteUser> users = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            users.add(userService.create("load" + i, "load" + i + "@example.com", PASSWORD));
+            this.usernames.add("load" + i);
+        }
+
+        for (int i = 0; i < QUESTIONS; i++) {
+            questionService.create("부하 테스트 질문 " + i, "질문 본문입니다. **" + i + "**번째 질문", users.get(i % ACCOUNTS), category);
+        }
+
+        QuestionRepository questionRepository = this.context.getBean(QuestionRepository.class);
+        for (Question question : questionRepository.findByCategory(category, PageRequest.of(0, QUESTIONS))) {
+            this.questionIds.add(question.getId());
+            for (int j = 0; j < ANSWERS_PER_QUESTION; j++) {
+                answerService.create(question, "답변 " + j + "입니다.", users.get((question.getId() + j) % ACCOUNTS));
+            }
+        }
+
+        NotebookService notebookService = this.context.getBean(NotebookService.class);
+        NoteService noteService = this.context.getBean(NoteService.class);
+        for (int i = 0; i < NOTEBOOKS; i++) {
+            Notebook notebook = notebookService.create(null, "부하 테스트 노트북 " + i);
+            for (int j = 0; j < NOTES_PER_NOTEBOOK; j++) {
+                Note note = noteService.saveDefault(notebook);
+                this.notePaths.add("/books/" + notebook.getId() + "/notes/" + note.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.personal.project.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드로 각각 애플리케이션을 띄워 목록, 상세, 추천 요청의 처리량과 p50/p99 응답 시간을 비교합니다.
+ * <p>
+ * 실행: ./gradlew loadTestThreadModes [-Pusers=200] [-Pseconds=20] [-PpoolSize=20]
+ * 같은 데이터, 같은 커넥션 풀 크기, 같은 순서로 실행하므로 같은 장비에서는 결과를 그대로 비교할 수 있습니다.
+ */
+public class ThreadModeComparison {
+
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 200);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 20));
+        int poolSize = Integer.getInteger("loadtest.pool-size", 20);
+        String output = System.getProperty("loadtest.output");
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("users=%d, duration=%ds, pool-size=%d", users, duration.toSeconds(), poolSize));
+        lines.add(String.format("%-9s %-8s %10s %8s %10s %10s %10s", "mode", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)"));
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (LoadTestServer server = LoadTestServer.start("loadtest_" + mode, virtual, poolSize);
+                 ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .executor(clientExecutor)
+                        .build();
+                List<VirtualUser> sessions = login(client, server, users);
+                List<Integer> ids = server.getQuestionIds();
+
+                LoadRunner.Step list = (user, random) -> user.get("/question/list/" + LoadTestServer.CATEGORY + "?page=" + random.nextInt(10));
+                LoadRunner.Step detail = (user, random) -> user.get("/question/detail/" + ids.get(random.nextInt(ids.size())));
+                LoadRunner.Step vote = (user, random) -> user.vote("/question/vote/" + ids.get(random.nextInt(ids.size())));
+
+                for (LoadRunner.Step step : List.of(list, detail, vote)) {
+                    LoadRunner.run("warm-up", sessions, WARM_UP, step);
+                }
+                for (LoadRunner.Result result : List.of(
+                        LoadRunner.run("list", sessions, duration, list),
+                        LoadRunner.run("detail", sessions, duration, detail),
+                        LoadRunner.run("vote", sessions, duration, vote))) {
+
+                    lines.add(String.format("%-9s %-8s %10d %8d %10.1f %10.2f %10.2f", mode, result.name(),
+                            result.requests(), result.errors(), result.throughput(), result.p50Millis(), result.p99Millis()));
+                }
+            }
+        }
+
+        lines.forEach(System.out::println);
+        if (output != null) {
+            Path path = Path.of(output);
+            Files.createDirectories(path.getParent());
+            Files.write(path, lines);
+        }
+    }
+
+    private static List<VirtualUser> login(HttpClient client,
+                                           LoadTestServer server,
+                                           int users) throws IOException, InterruptedException {
+
+        List<VirtualUser> sessions = new ArrayList<>();
+        List<String> usernames = server.getUsernames();
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(client, server.getBaseUrl());
+            if (!user.login(usernames.get(i % usernames.size()), LoadTestServer.PASSWORD)) {
+                throw new IllegalStateException("로그인에 실패했습니다: " + usernames.get(i % usernames.size()));
+            }
+            sessions.add(user);
+        }
+        return sessions;
+    }
+}
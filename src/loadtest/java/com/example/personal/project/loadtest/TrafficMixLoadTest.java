@@ -0,0 +1,179 @@
+package com.example.personal.project.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가입/로그인, 목록, 검색, 상세, 답변, 댓글, 추천, 노트 수정 요청을 정해진 비중으로 섞어 보내고
+ * 요청 종류별 처리량과 p50/p95/p99/p99.9 응답 시간을 출력합니다.
+ * <p>
+ * 실행: ./gradlew loadTest [-Pusers=200] [-Pseconds=60] [-PwarmUp=10] [-PpoolSize=20] [-Pvirtual=false]
+ * [-Pmix=list=30,search=10,detail=30,answer=5,comment=5,vote=10,note=8,signup=2]
+ * <p>
+ * 결과는 build/results/loadtest/results.json 에 JSON으로 저장되고, 실행할 때마다 history 폴더에 복사되므로
+ * 빌드 사이의 결과를 그대로 비교할 수 있습니다. 요청 종류별 histogram 항목은 HdrHistogram 압축 인코딩(Base64)입니다.
+ */
+public class TrafficMixLoadTest {
+
+    private static final String DEFAULT_MIX = "list=30,search=10,detail=30,answer=5,comment=5,vote=10,note=8,signup=2";
+    private static final String[] KEYWORDS = {"부하", "질문", "답변", "테스트"};
+
+    private final AtomicInteger signups = new AtomicInteger();
+    private final LoadTestServer server;
+    private final HttpClient client;
+
+    private TrafficMixLoadTest(LoadTestServer server,
+                               HttpClient client) {
+
+        this.server = server;
+        this.client = client;
+    }
+
+    public record Settings(int users, long durationSeconds, long warmUpSeconds, int poolSize, boolean virtualThreads,
+                           Map<String, Integer> mix) {
+    }
+
+    public record Report(String startedAt, Settings settings, List<LoadRunner.Result> endpoints) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 200);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 60));
+        Duration warmUp = Duration.ofSeconds(Integer.getInteger("loadtest.warm-up-seconds", 10));
+        int poolSize = Integer.getInteger("loadtest.pool-size", 20);
+        boolean virtual = Boolean.parseBoolean(System.getProperty("loadtest.virtual", "false"));
+        Map<String, Integer> weights = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+        String output = System.getProperty("loadtest.output");
+
+        String startedAt = OffsetDateTime.now().toString();
+        List<LoadRunner.Result> results;
+        try (LoadTestServer server = LoadTestServer.start("loadtest_mix", virtual, poolSize);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .executor(clientExecutor)
+                    .build();
+            TrafficMixLoadTest test = new TrafficMixLoadTest(server, client);
+            List<VirtualUser> sessions = test.login(users);
+            List<LoadRunner.Scenario> mix = test.scenarios(weights);
+
+            LoadRunner.run(sessions, warmUp, mix);
+            results = LoadRunner.run(sessions, duration, mix);
+        }
+
+        Report report = new Report(startedAt,
+                new Settings(users, duration.toSeconds(), warmUp.toSeconds(), poolSize, virtual, weights), results);
+        print(report);
+        if (output != null) {
+            Path path = Path.of(output);
+            Files.createDirectories(path.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        }
+    }
+
+    // "list=30,detail=30" 형식의 비중을 읽습니다. 비중이 0인 요청은 보내지 않습니다.
+    static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 비중 형식입니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(pair[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("보낼 요청이 없습니다: " + value);
+        }
+        return weights;
+    }
+
+    private List<LoadRunner.Scenario> scenarios(Map<String, Integer> weights) {
+        List<Integer> ids = this.server.getQuestionIds();
+        List<String> notes = this.server.getNotePaths();
+        String category = LoadTestServer.CATEGORY;
+
+        List<LoadRunner.Scenario> mix = new ArrayList<>();
+        weights.forEach((name, weight) -> {
+            LoadRunner.Step step = switch (name) {
+                case "list" -> (user, random) -> user.get("/question/list/" + category + "?page=" + random.nextInt(10));
+                case "search" -> (user, random) -> user.get("/question/list/" + category + "?kw="
+                        + URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)], StandardCharsets.UTF_8));
+                case "detail" -> (user, random) -> user.get("/question/detail/" + ids.get(random.nextInt(ids.size())));
+                case "answer" -> (user, random) -> redirected(user.submit(
+                        "/answer/create/" + ids.get(random.nextInt(ids.size())), Map.of("content", "부하 테스트 답변입니다.")));
+                case "comment" -> (user, random) -> redirected(user.submit(
+                        "/comment/create/question/" + ids.get(random.nextInt(ids.size())), Map.of("content", "부하 테스트 댓글입니다.")));
+                case "vote" -> (user, random) -> user.vote("/question/vote/" + ids.get(random.nextInt(ids.size())));
+                case "note" -> (user, random) -> redirected(user.submit(
+                        notes.get(random.nextInt(notes.size())) + "/update",
+                        Map.of("title", "부하 테스트 노트", "content", "노트 본문 " + random.nextInt(1000))));
+                case "signup" -> (user, random) -> signupAndLogin();
+                default -> throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + name);
+            };
+            mix.add(new LoadRunner.Scenario(name, weight, step));
+        });
+        return mix;
+    }
+
+    // 새 세션으로 가입한 뒤 로그인합니다. 두 요청을 합친 시간을 기록합니다.
+    private int signupAndLogin() throws IOException, InterruptedException {
+        String username = "signup" + this.signups.incrementAndGet();
+        VirtualUser user = new VirtualUser(this.client, this.server.getBaseUrl());
+        if (!user.signup(username, username + "@example.com", LoadTestServer.PASSWORD)) {
+            return -1;
+        }
+        return user.login(username, LoadTestServer.PASSWORD) ? 200 : -1;
+    }
+
+    // 폼 전송은 성공하면 리다이렉트하고, 입력 오류이면 폼을 다시 보여 주므로 302만 성공으로 봅니다.
+    private static int redirected(int status) {
+        return status == 302 ? status : -1;
+    }
+
+    private List<VirtualUser> login(int users) throws IOException, InterruptedException {
+        List<VirtualUser> sessions = new ArrayList<>();
+        List<String> usernames = this.server.getUsernames();
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(this.client, this.server.getBaseUrl());
+            if (!user.login(usernames.get(i % usernames.size()), LoadTestServer.PASSWORD)) {
+                throw new IllegalStateException("로그인에 실패했습니다: " + usernames.get(i % usernames.size()));
+            }
+            sessions.add(user);
+        }
+        return sessions;
+    }
+
+    private static void print(Report report) {
+        Settings settings = report.settings();
+        System.out.printf("users=%d, duration=%ds, pool-size=%d, virtual=%s, mix=%s%n", settings.users(),
+                settings.durationSeconds(), settings.poolSize(), settings.virtualThreads(), settings.mix());
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (LoadRunner.Result result : report.endpoints()) {
+            System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n", result.name(),
+                    result.requests(), result.errors(), result.throughput(), result.p50Millis(), result.p95Millis(),
+                    result.p99Millis(), result.p999Millis(), result.maxMillis());
+        }
+    }
+}
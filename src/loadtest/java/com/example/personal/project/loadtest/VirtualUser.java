@@ -0,0 +1,123 @@
+package com.example.personal.project.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 세션 쿠키를 가진 가상 사용자입니다. HttpClient는 모든 사용자가 공유하고 쿠키만 사용자별로 보관합니다.
+ */
+public class VirtualUser {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern SESSION = Pattern.compile("JSESSIONID=([^;]+)");
+    private static final String CSRF_PAGE = "/user/modify/password"; // 로그인한 사용자가 CSRF 토큰을 받을 화면
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private String sessionId;
+    private String csrf;
+
+    public VirtualUser(HttpClient client,
+                       String baseUrl) {
+
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    // GET 요청을 보내고 상태 코드를 반환합니다. (리다이렉트는 따라가지 않습니다.)
+    public int get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET()).statusCode();
+    }
+
+    public String getBody(String path) throws IOException, InterruptedException {
+        return send(request(path).GET()).body();
+    }
+
+    public int postForm(String path,
+                        Map<String, String> form) throws IOException, InterruptedException {
+
+        String body = form.entrySet().stream()
+                .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return send(request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))).statusCode();
+    }
+
+    // 로그인한 뒤 받아 둔 CSRF 토큰을 붙여 폼을 전송합니다.
+    public int submit(String path,
+                      Map<String, String> form) throws IOException, InterruptedException {
+
+        Map<String, String> withToken = new HashMap<>(form);
+        withToken.put("_csrf", this.csrf);
+        return postForm(path, withToken);
+    }
+
+    // 추천 요청 (POST, JSON 응답). 자신이 작성한 질문을 추천하면 400을 응답하는데, 이는 정상 동작이므로 200으로 봅니다.
+    public int vote(String path) throws IOException, InterruptedException {
+        int status = submit(path, Map.of());
+        return status == 400 ? 200 : status;
+    }
+
+    // 로그인 화면에서 CSRF 토큰을 읽은 뒤 로그인합니다. 성공하면 true를 반환합니다.
+    // 로그인하면 CSRF 토큰이 바뀌므로 새 토큰을 받아 둡니다.
+    public boolean login(String username,
+                         String password) throws IOException, InterruptedException {
+
+        String token = csrfToken("/user/login");
+        int status = postForm("/user/login", Map.of("username", username, "password", password, "_csrf", token));
+        if (status != 302 || get("/user/info") != 200) {
+            return false;
+        }
+        this.csrf = csrfToken(CSRF_PAGE);
+        return true;
+    }
+
+    // 가입 화면에서 CSRF 토큰을 읽은 뒤 가입합니다. 성공하면 (메인 화면으로 리다이렉트) true를 반환합니다.
+    public boolean signup(String username,
+                          String email,
+                          String password) throws IOException, InterruptedException {
+
+        String token = csrfToken("/user/signup");
+        int status = postForm("/user/signup", Map.of("username", username, "email", email,
+                "password1", password, "password2", password, "_csrf", token));
+        return status == 302;
+    }
+
+    public String csrfToken(String path) throws IOException, InterruptedException {
+        Matcher matcher = CSRF.matcher(getBody(path));
+        if (!matcher.find()) {
+            throw new IllegalStateException("CSRF 토큰을 찾을 수 없습니다: " + path);
+        }
+        return matcher.group(1);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(this.baseUrl + path));
+        if (this.sessionId != null) {
+            builder.header("Cookie", "JSESSIONID=" + this.sessionId);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpResponse<String> response = this.client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        for (String cookie : response.headers().allValues("Set-Cookie")) {
+            Matcher matcher = SESSION.matcher(cookie);
+            if (matcher.find()) {
+                this.sessionId = matcher.group(1);
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.personal.project;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 네이티브 UPDATE로 바꾼 행을 Hibernate 2차 캐시에서 ID 단위로 제거합니다.
+ * <p>
+ * JPQL 일괄 UPDATE나 테이블을 동기화 공간으로 지정한 네이티브 UPDATE는 엔티티 영역 전체를 비우므로,
+ * 카운터 증감처럼 자주 실행되는 쿼리는 어떤 엔티티에도 매핑되지 않는 공간을 지정하고 바뀐 행만 제거합니다.
+ */
+public final class CacheEviction {
+
+    // 어떤 테이블에도 해당하지 않는 동기화 공간 (엔티티 영역을 비우지 않습니다.)
+    public static final String COUNTER_SPACE = "counters";
+
+    private CacheEviction() {
+    }
+
+    // 캐시 영역을 비우지 않도록 동기화 공간을 지정한 네이티브 쿼리를 만듭니다.
+    public static Query counterUpdate(EntityManager entityManager,
+                                      String sql) {
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(COUNTER_SPACE);
+        return query;
+    }
+
+    /**
+     * 지금 한 번 제거하고, 트랜잭션 안이면 트랜잭션이 끝난 뒤에 한 번 더 제거합니다.
+     * (커밋 전에 다른 트랜잭션이 이전 값을 다시 읽어 캐시에 넣었을 수 있습니다.)
+     */
+    public static void evict(EntityManager entityManager,
+                             Class<?> type,
+                             Object id) {
+
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(type, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(type, id);
+                }
+            });
+        }
+    }
+}
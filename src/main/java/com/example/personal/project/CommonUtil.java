@@ -1,16 +1,54 @@
 package com.example.personal.project;
 
+import io.micrometer.core.annotation.Timed;
 import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 @Component
 public class CommonUtil {
+    // Parser와 HtmlRenderer는 만든 뒤 변경되지 않으므로 여러 스레드에서 함께 사용해도 안전합니다.
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    // 본문 해시 -> 렌더링된 HTML (HTML 글자 수의 합으로 크기를 제한합니다.)
+    private final LruCache<String, String> htmlCache;
+
+    public CommonUtil(@Value("${markdown.cache.max-chars:8388608}") long maxChars) {
+        this.htmlCache = new LruCache<>(maxChars, String::length);
+    }
+
+    // 캐시 적중/실패 수는 CacheMetrics가 app.cache.gets로 등록합니다.
+    @Timed(value = "markdown.render", histogram = true)
     public String markdown(String markdown) {
-        Parser parser = Parser.builder().build();
-        Node document = parser.parse(markdown);
-        HtmlRenderer renderer = HtmlRenderer.builder().build();
-        return renderer.render(document);
+        if (markdown == null) {
+            return "";
+        }
+        return this.htmlCache.computeIfAbsent(hash(markdown), key -> render(markdown));
+    }
+
+    public LruCache<String, String> getHtmlCache() {
+        return this.htmlCache;
+    }
+
+    private static String render(String markdown) {
+        Node document = PARSER.parse(markdown);
+        return RENDERER.render(document);
+    }
+
+    private static String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,38 @@
+package com.example.personal.project;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * count(*) 결과를 일정 시간 동안 재사용하는 캐시입니다.
+ * 키셋 페이징에서 표시하는 추정 전체 개수처럼 약간 오래된 값이어도 되는 곳에 사용합니다.
+ */
+public class CountCache<K> {
+
+    private final long ttlMillis;
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+
+    public CountCache(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long get(K key,
+                    Supplier<Long> loader) {
+
+        long now = System.currentTimeMillis();
+        Entry entry = this.entries.get(key);
+        if (entry == null || entry.expiresAt < now) {
+            entry = new Entry(loader.get(), now + this.ttlMillis);
+            this.entries.put(key, entry);
+        }
+        return entry.value;
+    }
+
+    public void evict(K key) {
+        this.entries.remove(key);
+    }
+
+    private record Entry(long value, long expiresAt) {
+    }
+}
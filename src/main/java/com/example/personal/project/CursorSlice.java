@@ -0,0 +1,80 @@
+package com.example.personal.project;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이징 결과입니다. 전체 개수를 세지 않고 다음/이전 페이지 커서만 가지며,
+ * 전체 개수는 캐시된 추정값을 사용합니다.
+ */
+@Getter
+public class CursorSlice<T> implements Iterable<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final String prevCursor;
+    private final long totalElements; // 캐시된(추정) 전체 개수
+
+    private CursorSlice(List<T> content,
+                        String nextCursor,
+                        String prevCursor,
+                        long totalElements) {
+
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 슬라이스를 만듭니다.
+     *
+     * @param rows          조회 결과 (최대 size + 1개, 이전 방향이면 역순)
+     * @param size          페이지 크기
+     * @param backward      이전 방향으로 조회했는지 여부
+     * @param fromCursor    커서로부터 조회했는지 여부 (false이면 첫 페이지)
+     * @param cursorOf      항목의 커서를 만드는 함수
+     * @param totalElements 추정 전체 개수
+     */
+    public static <T> CursorSlice<T> of(List<T> rows,
+                                        int size,
+                                        boolean backward,
+                                        boolean fromCursor,
+                                        Function<T, KeysetCursor> cursorOf,
+                                        long totalElements) {
+
+        boolean more = rows.size() > size;
+        List<T> content = new ArrayList<>(more ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(content);
+        }
+
+        boolean hasNext = backward || more;
+        boolean hasPrevious = backward ? more : fromCursor;
+        String next = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        String prev = hasPrevious && !content.isEmpty() ? cursorOf.apply(content.get(0)).encode() : null;
+        return new CursorSlice<>(content, next, prev, totalElements);
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return this.prevCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return this.content.isEmpty();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.content.iterator();
+    }
+}
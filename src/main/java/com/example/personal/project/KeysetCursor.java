@@ -0,0 +1,68 @@
+package com.example.personal.project;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * ([점수,] 작성일시, id) 기준 키셋 페이징에서 다음/이전 페이지의 시작 위치를 나타내는 커서입니다.
+ * 점수는 추천순처럼 작성일시보다 앞선 정렬 기준이 있을 때만 사용합니다.
+ * URL에 그대로 넣을 수 있도록 URL-safe Base64 문자열로 인코딩합니다.
+ */
+@Getter
+public class KeysetCursor {
+
+    public static final String NEXT = "next"; // 커서 이후 항목을 조회
+    public static final String PREV = "prev"; // 커서 이전 항목을 조회
+
+    private static final String SEPARATOR = "|";
+
+    private final Integer score;
+    private final LocalDateTime createDate;
+    private final Integer id;
+
+    public KeysetCursor(LocalDateTime createDate,
+                        Integer id) {
+
+        this(null, createDate, id);
+    }
+
+    public KeysetCursor(Integer score,
+                        LocalDateTime createDate,
+                        Integer id) {
+
+        this.score = score;
+        this.createDate = createDate;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = (this.score != null ? this.score.toString() : "") + SEPARATOR + this.createDate + SEPARATOR + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 비어 있거나 형식이 잘못된 커서는 첫 페이지를 의미하는 null을 반환합니다.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                return null;
+            }
+            return new KeysetCursor(parts[0].isEmpty() ? null : Integer.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.personal.project;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 항목별 크기(가중치)의 합이 최대값을 넘지 않도록 가장 오래 사용되지 않은 항목부터 제거하는 캐시입니다.
+ * 값을 만드는 작업은 잠금 밖에서 실행하므로 느린 로더가 다른 키의 조회를 막지 않습니다.
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private long weight;
+
+    /**
+     * @param maxWeight 전체 가중치 상한
+     * @param weigher   항목의 가중치를 계산하는 함수
+     */
+    public LruCache(long maxWeight,
+                    ToLongFunction<V> weigher) {
+
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    // 항목 개수로 크기를 제한하는 캐시를 만듭니다.
+    public static <K, V> LruCache<K, V> ofSize(int maxSize) {
+        return new LruCache<>(maxSize, value -> 1);
+    }
+
+    public V get(K key) {
+        V value;
+        this.lock.lock();
+        try {
+            value = this.entries.get(key);
+        } finally {
+            this.lock.unlock();
+        }
+        (value != null ? this.hitCount : this.missCount).incrementAndGet();
+        return value;
+    }
+
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> loader) {
+
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public void put(K key,
+                    V value) {
+
+        long valueWeight = this.weigher.applyAsLong(value);
+        if (valueWeight > this.maxWeight) {
+            return;
+        }
+
+        this.lock.lock();
+        try {
+            V previous = this.entries.put(key, value);
+            if (previous != null) {
+                this.weight -= this.weigher.applyAsLong(previous);
+            }
+            this.weight += valueWeight;
+
+            Iterator<Map.Entry<K, V>> eldest = this.entries.entrySet().iterator();
+            while (this.weight > this.maxWeight && eldest.hasNext()) {
+                Map.Entry<K, V> entry = eldest.next();
+                this.weight -= this.weigher.applyAsLong(entry.getValue());
+                eldest.remove();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        this.lock.lock();
+        try {
+            V previous = this.entries.remove(key);
+            if (previous != null) {
+                this.weight -= this.weigher.applyAsLong(previous);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+}
@@ -3,9 +3,13 @@ package com.example.personal.project;
 import com.example.personal.project.note.Note;
 import com.example.personal.project.note.NoteRepository;
 import com.example.personal.project.note.NoteService;
+import com.example.personal.project.note.NoteSummary;
 import com.example.personal.project.notebook.Notebook;
+import com.example.personal.project.notebook.NotebookNode;
 import com.example.personal.project.notebook.NotebookRepository;
+import com.example.personal.project.notebook.NotebookService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,30 +22,30 @@ public class MainController {
     private final NotebookRepository notebookRepository;
     private final NoteRepository noteRepository;
     private final NoteService noteService;
+    private final NotebookService notebookService;
     @RequestMapping("/")
     public String main(Model model, Principal principal) {
         if (principal != null) {
 
-            List<Notebook> notebookList = notebookRepository.findAll();
-            if (notebookList.isEmpty()) {
-                Notebook notebook = new Notebook();
-                notebook.setName("새노트");
-                notebookRepository.save(notebook);
+            // 노트북 트리는 한 번의 쿼리로 읽어 메모리에서 조립합니다.
+            List<NotebookNode> notebookTree = notebookService.getTree();
+            if (notebookTree.isEmpty()) {
+                notebookService.create(null, "새노트");
                 return "redirect:/";
             }
-            Notebook targetNotebook = notebookList.get(0);
-            List<Note> noteList = noteRepository.findByNotebook(targetNotebook);
+            Notebook targetNotebook = notebookRepository.findById(notebookTree.get(0).getId()).orElseThrow();
+            Slice<NoteSummary> noteList = noteService.getSummaries(targetNotebook.getId(), 0);
 
             if (noteList.isEmpty()) {
-                Note note = noteService.saveDefault();
-                targetNotebook.addNote(note);
-                notebookRepository.save(targetNotebook);
+                noteService.saveDefault(targetNotebook);
                 return "redirect:/";
             }
 
+            // 본문은 선택한 노트만 읽습니다.
+            Note targetNote = noteRepository.findById(noteList.getContent().get(0).getId()).orElseThrow();
             model.addAttribute("noteList", noteList);
-            model.addAttribute("targetNote", noteList.get(0));
-            model.addAttribute("notebookList", notebookList);
+            model.addAttribute("targetNote", targetNote);
+            model.addAttribute("notebookTree", notebookTree);
             model.addAttribute("targetNotebook", targetNotebook);
             return "main";
         } else {
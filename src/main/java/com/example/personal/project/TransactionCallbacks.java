@@ -0,0 +1,27 @@
+package com.example.personal.project;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 결과에 맞춰 메모리 상태(화면 버전, 검색 색인 등)를 갱신합니다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행합니다. (롤백되면 실행하지 않습니다.)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.personal.project;
+
+/**
+ * 추천 요청의 결과입니다. 상세 화면은 이 값으로 추천 수만 바꿉니다.
+ *
+ * @param voted     이번 요청으로 추천이 추가되었는지 여부 (이미 추천한 경우 false)
+ * @param voteCount 현재 추천 수
+ */
+public record VoteResult(boolean voted,
+                         int voteCount) {
+}
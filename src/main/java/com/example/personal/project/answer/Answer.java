@@ -7,15 +7,24 @@ import com.example.personal.project.user.SiteUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 질문의 answerList 캐시 원소
+@Table(indexes = {
+        @Index(name = "idx_answer_question_create_date", columnList = "question_id, create_date, id"),
+        @Index(name = "idx_answer_question_vote_count", columnList = "question_id, vote_count, create_date"),
+        @Index(name = "idx_answer_author_create_date", columnList = "author_id, create_date")
+})
 public class Answer {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,12 +39,19 @@ public class Answer {
     @ManyToOne
     private SiteUser author;
 
-    @ManyToMany
-    Set<SiteUser> voter;
-
+    // 한 페이지의 답변 댓글을 답변마다 조회하지 않고 한 번에 조회합니다.
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "answer", cascade = CascadeType.REMOVE)
     private List<Comment> commentList;
 
+    // 아래 카운터는 엔티티 저장으로 덮어쓰지 않도록 updatable = false로 두고
+    // AnswerRepository의 증감 쿼리로만 변경합니다.
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int commentCount;
+
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int voteCount;
+
     private LocalDateTime modifyDate;
 
     private LocalDateTime createDate;
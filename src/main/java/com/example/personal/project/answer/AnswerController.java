@@ -1,5 +1,6 @@
 package com.example.personal.project.answer;
 
+import com.example.personal.project.VoteResult;
 import com.example.personal.project.question.Question;
 import com.example.personal.project.question.QuestionService;
 import com.example.personal.project.user.SiteUser;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.security.Principal;
@@ -100,13 +102,13 @@ public class AnswerController {
     }
 
     @PreAuthorize("isAuthenticated()")
-    @GetMapping("/vote/{id}")
-    public String answerVote(Principal principal,
-                             @PathVariable("id") Integer id) {
+    @PostMapping("/vote/{id}")
+    @ResponseBody
+    public VoteResult answerVote(Principal principal,
+                                 @PathVariable("id") Integer id) {
 
         Answer answer = this.answerService.getAnswer(id);
         SiteUser siteUser = this.userService.getUser(principal.getName());
-        this.answerService.vote(answer, siteUser);
-        return String.format("redirect:/question/detail/%s#answer_%s", answer.getQuestion().getId(), answer.getId());
+        return this.answerService.vote(answer, siteUser);
     }
 }
\ No newline at end of file
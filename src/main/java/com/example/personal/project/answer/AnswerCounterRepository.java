@@ -0,0 +1,11 @@
+package com.example.personal.project.answer;
+
+/**
+ * 답변의 댓글/추천 수 증감. 바뀐 답변만 2차 캐시에서 제거합니다.
+ */
+public interface AnswerCounterRepository {
+
+    int addCommentCount(Integer id, int delta);
+
+    int addVoteCount(Integer id, int delta);
+}
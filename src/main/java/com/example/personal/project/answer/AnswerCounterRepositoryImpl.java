@@ -0,0 +1,42 @@
+package com.example.personal.project.answer;
+
+import com.example.personal.project.CacheEviction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+// AnswerRepository에 포함되는 구현입니다. (스프링 데이터가 이름으로 찾습니다.)
+class AnswerCounterRepositoryImpl implements AnswerCounterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    @Override
+    public int addCommentCount(Integer id,
+                               int delta) {
+
+        return add("comment_count", id, delta);
+    }
+
+    @Transactional
+    @Override
+    public int addVoteCount(Integer id,
+                            int delta) {
+
+        return add("vote_count", id, delta);
+    }
+
+    private int add(String column,
+                    Integer id,
+                    int delta) {
+
+        int updated = CacheEviction.counterUpdate(this.entityManager,
+                        "update answer set " + column + " = " + column + " + :delta where id = :id")
+                .setParameter("delta", delta)
+                .setParameter("id", id)
+                .executeUpdate();
+        CacheEviction.evict(this.entityManager, Answer.class, id);
+        return updated;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.personal.project.answer;
+
+/**
+ * 검색 색인을 만들 때 필요한 답변 컬럼만 읽어오는 프로젝션입니다.
+ */
+public interface AnswerIndexSource {
+    Integer getId();
+
+    Integer getQuestionId();
+
+    String getContent();
+
+    String getUsername();
+}
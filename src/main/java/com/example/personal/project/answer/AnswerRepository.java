@@ -2,18 +2,114 @@ package com.example.personal.project.answer;
 
 import com.example.personal.project.question.Question;
 import com.example.personal.project.user.SiteUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface AnswerRepository extends JpaRepository<Answer, Integer> {
+public interface AnswerRepository extends JpaRepository<Answer, Integer>, AnswerCounterRepository {
+    @EntityGraph(attributePaths = "author")
     Page<Answer> findAllByQuestion(Question question, Pageable pageable);
 
-    Optional<List<Answer>> findAllByAuthor(SiteUser user);
+    // 작성자의 답변 목록 (답변한 질문을 함께 조회하며 count 쿼리는 실행하지 않습니다.)
+    @EntityGraph(attributePaths = "question")
+    @Transactional(readOnly = true)
+    Slice<Answer> findByAuthor(SiteUser author, Pageable pageable);
+
 
     Page<Answer> findAllByQuestion(Question question, Specification<Answer> spec, Pageable pageable);
+
+    // 키셋 페이징의 첫 페이지 (count 쿼리 없이 조회합니다.)
+    @EntityGraph(attributePaths = "author")
+    List<Answer> findByQuestionOrderByCreateDateDescIdDesc(Question question, Pageable pageable);
+
+    // 커서보다 오래된 답변을 최신순으로 조회합니다.
+    @EntityGraph(attributePaths = "author")
+    @Query("select a from Answer a "
+            + "where a.question = :question "
+            + "and (a.createDate < :createDate or (a.createDate = :createDate and a.id < :id)) "
+            + "order by a.createDate desc, a.id desc")
+    List<Answer> findAfterCursor(@Param("question") Question question,
+                                 @Param("createDate") LocalDateTime createDate,
+                                 @Param("id") Integer id,
+                                 Pageable pageable);
+
+    // 커서보다 최근 답변을 오래된 순으로 조회합니다. (호출하는 쪽에서 역순으로 뒤집습니다.)
+    @EntityGraph(attributePaths = "author")
+    @Query("select a from Answer a "
+            + "where a.question = :question "
+            + "and (a.createDate > :createDate or (a.createDate = :createDate and a.id > :id)) "
+            + "order by a.createDate asc, a.id asc")
+    List<Answer> findBeforeCursor(@Param("question") Question question,
+                                  @Param("createDate") LocalDateTime createDate,
+                                  @Param("id") Integer id,
+                                  Pageable pageable);
+
+    // 추천순 키셋 페이징의 첫 페이지
+    @EntityGraph(attributePaths = "author")
+    List<Answer> findByQuestionOrderByVoteCountDescCreateDateDescIdDesc(Question question, Pageable pageable);
+
+    // 커서보다 뒤에 오는 답변을 추천순으로 조회합니다.
+    @EntityGraph(attributePaths = "author")
+    @Query("select a from Answer a "
+            + "where a.question = :question "
+            + "and (a.voteCount < :voteCount or (a.voteCount = :voteCount "
+            + "and (a.createDate < :createDate or (a.createDate = :createDate and a.id < :id)))) "
+            + "order by a.voteCount desc, a.createDate desc, a.id desc")
+    List<Answer> findAfterVoteCursor(@Param("question") Question question,
+                                     @Param("voteCount") int voteCount,
+                                     @Param("createDate") LocalDateTime createDate,
+                                     @Param("id") Integer id,
+                                     Pageable pageable);
+
+    // 커서보다 앞에 오는 답변을 추천 역순으로 조회합니다. (호출하는 쪽에서 역순으로 뒤집습니다.)
+    @EntityGraph(attributePaths = "author")
+    @Query("select a from Answer a "
+            + "where a.question = :question "
+            + "and (a.voteCount > :voteCount or (a.voteCount = :voteCount "
+            + "and (a.createDate > :createDate or (a.createDate = :createDate and a.id > :id)))) "
+            + "order by a.voteCount asc, a.createDate asc, a.id asc")
+    List<Answer> findBeforeVoteCursor(@Param("question") Question question,
+                                      @Param("voteCount") int voteCount,
+                                      @Param("createDate") LocalDateTime createDate,
+                                      @Param("id") Integer id,
+                                      Pageable pageable);
+
+    @Query("select a.voteCount from Answer a where a.id = :id")
+    int findVoteCountById(@Param("id") Integer id);
+
+    @Query("select coalesce(max(a.id), 0) from Answer a")
+    int findMaxId();
+
+    // 주어진 ID 범위의 답변 카운터를 실제 행 수로 다시 계산합니다.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "answer")) // 이 테이블의 캐시 영역만 비웁니다.
+    @Query(value = "update answer a set "
+            + "comment_count = (select count(*) from comment c where c.answer_id = a.id), "
+            + "vote_count = (select count(*) from answer_voter v where v.answer_id = a.id) "
+            + "where a.id between :fromId and :toId", nativeQuery = true)
+    int reconcileCounters(@Param("fromId") int fromId,
+                          @Param("toId") int toId);
+
+    @Query("select a.id as id, a.question.id as questionId, a.content as content, u.username as username "
+            + "from Answer a "
+            + "left outer join a.author u "
+            + "where a.id > :lastId "
+            + "order by a.id")
+    List<AnswerIndexSource> findIndexSources(@Param("lastId") int lastId,
+                                             Pageable pageable);
 }
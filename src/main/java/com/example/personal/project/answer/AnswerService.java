@@ -1,15 +1,23 @@
 package com.example.personal.project.answer;
 
 
+import com.example.personal.project.CursorSlice;
+import com.example.personal.project.KeysetCursor;
+import com.example.personal.project.VoteResult;
 import com.example.personal.project.error.DataNotFoundException;
 import com.example.personal.project.question.Question;
+import com.example.personal.project.question.QuestionRepository;
+import com.example.personal.project.question.QuestionSearchIndex;
+import com.example.personal.project.question.QuestionVersions;
 import com.example.personal.project.user.SiteUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -22,7 +30,12 @@ public class AnswerService {
 
     public static final String RECENT_ORDER = "recent"; // 답변 목록을 최신순으로 정렬하기 위한 상수
     public static final String RECOMMEND_ORDER = "recommend"; // 답변 목록을 추천순으로 정렬하기 위한 상수
+    public static final int LIST_SIZE = 3; // 한 페이지에 표시할 답변 수
     private final AnswerRepository answerRepository; // Answer 엔티티와 상호작용하기 위한 Repository
+    private final AnswerVoteRepository answerVoteRepository; // 답변 추천 기록
+    private final QuestionRepository questionRepository; // 질문의 답변 수를 갱신하기 위한 Repository
+    private final QuestionSearchIndex questionSearchIndex; // 답변 내용도 질문 검색 색인에 포함됩니다.
+    private final QuestionVersions questionVersions; // 조건부 GET에 사용하는 화면 버전
 
     /**
      * 주어진 페이지 및 질문에 해당하는 답변 목록을 가져옵니다.
@@ -32,6 +45,8 @@ public class AnswerService {
      * @param so       정렬 순서 ("recent" 또는 "recommend")
      * @return 답변 목록 페이지
      */
+    @Timed(value = "answer.list", histogram = true)
+    @Transactional(readOnly = true)
     public Page<Answer> getList(int page,
                                 Question question,
                                 String so) {
@@ -39,28 +54,66 @@ public class AnswerService {
         List<Sort.Order> sorts = new ArrayList<>(); // 정렬 조건을 담을 리스트 생성
 
         if (RECOMMEND_ORDER.equals(so)) { // 정렬 순서가 "recommend"인 경우
-            sorts.add(Sort.Order.desc("voter")); // 추천순으로 정렬
-        } else { // 그 외의 경우, 즉 "recent"인 경우
-            sorts.add(Sort.Order.desc("createDate")); // 최신순으로 정렬
+            sorts.add(Sort.Order.desc("voteCount")); // 추천 수로 정렬 (question_id, vote_count, create_date 인덱스 사용)
         }
-        Pageable pageable = PageRequest.of(page, 3, Sort.by(sorts)); // 페이지와 정렬 조건으로 페이지 요청 생성
+        sorts.add(Sort.Order.desc("createDate")); // 최신순으로 정렬
+        sorts.add(Sort.Order.desc("id")); // 작성일시가 같아도 페이지 사이 순서가 바뀌지 않도록 ID로 정렬
+        Pageable pageable = PageRequest.of(page, LIST_SIZE, Sort.by(sorts)); // 페이지와 정렬 조건으로 페이지 요청 생성
         return this.answerRepository.findAllByQuestion(question, pageable); // 질문에 해당하는 답변 목록을 페이지별로 가져와 반환
     }
 
     /**
-     * 주어진 사용자가 작성한 모든 답변 목록을 가져옵니다.
+     * 커서를 기준으로 질문의 답변 목록을 가져옵니다.
+     * 최신순은 (작성일시, ID), 추천순은 (추천 수, 작성일시, ID) 순서의 인덱스 범위를 읽으며
+     * OFFSET과 count(*) 없이 조회하므로 뒤쪽 페이지도 첫 페이지와 비용이 같습니다.
      *
-     * @param user 사용자
-     * @return 사용자가 작성한 답변 목록
+     * @param question  질문
+     * @param cursor    커서 (비어 있으면 첫 페이지)
+     * @param direction 조회 방향 ("next" 또는 "prev")
+     * @param so        정렬 순서 ("recent" 또는 "recommend")
+     * @return 답변 슬라이스
      */
-    public List<Answer> getListByAuthor(SiteUser user) {
-        Optional<List<Answer>> answers = this.answerRepository.findAllByAuthor(user); // 사용자가 작성한 답변 목록을 옵셔널로 가져옴
+    @Transactional(readOnly = true)
+    public CursorSlice<Answer> getSlice(Question question,
+                                        String cursor,
+                                        String direction,
+                                        String so) {
+
+        KeysetCursor position = KeysetCursor.decode(cursor); // 커서 해석 (잘못된 커서는 첫 페이지)
+        boolean backward = position != null && KeysetCursor.PREV.equals(direction); // 이전 페이지 방향 여부
+        Pageable limit = PageRequest.of(0, LIST_SIZE + 1); // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+
+        if (RECOMMEND_ORDER.equals(so)) { // 추천순
+            if (position != null && position.getScore() == null) { // 최신순 커서가 넘어온 경우 첫 페이지부터 조회
+                position = null;
+                backward = false;
+            }
+
+            List<Answer> rows;
+            if (position == null) {
+                rows = this.answerRepository.findByQuestionOrderByVoteCountDescCreateDateDescIdDesc(question, limit);
+            } else if (backward) {
+                rows = this.answerRepository.findBeforeVoteCursor(question, position.getScore(),
+                        position.getCreateDate(), position.getId(), limit);
+            } else {
+                rows = this.answerRepository.findAfterVoteCursor(question, position.getScore(),
+                        position.getCreateDate(), position.getId(), limit);
+            }
+            return CursorSlice.of(rows, LIST_SIZE, backward, position != null,
+                    a -> new KeysetCursor(a.getVoteCount(), a.getCreateDate(), a.getId()), question.getAnswerCount());
+        }
 
-        if (answers.isPresent()) { // 가져온 답변 목록이 존재하는 경우
-            return answers.get(); // 답변 목록 반환
-        } else { // 가져온 답변 목록이 비어있는 경우
-            throw new DataNotFoundException("answers not found"); // 데이터를 찾을 수 없다는 예외 발생
+        List<Answer> rows;
+        if (position == null) {
+            rows = this.answerRepository.findByQuestionOrderByCreateDateDescIdDesc(question, limit);
+        } else if (backward) {
+            rows = this.answerRepository.findBeforeCursor(question, position.getCreateDate(), position.getId(), limit);
+        } else {
+            rows = this.answerRepository.findAfterCursor(question, position.getCreateDate(), position.getId(), limit);
         }
+
+        return CursorSlice.of(rows, LIST_SIZE, backward, position != null,
+                a -> new KeysetCursor(a.getCreateDate(), a.getId()), question.getAnswerCount()); // 저장된 답변 수
     }
 
     /**
@@ -71,6 +124,7 @@ public class AnswerService {
      * @param author   답변 작성자
      * @return 생성된 답변
      */
+    @Transactional
     public Answer create(Question question,
                          String content,
                          SiteUser author) {
@@ -81,6 +135,9 @@ public class AnswerService {
         answer.setQuestion(question); // 질문 설정
         answer.setAuthor(author); // 작성자 설정
         this.answerRepository.save(answer); // 답변 저장
+        this.questionRepository.addAnswerCount(question.getId(), 1); // 질문의 답변 수 증가
+        this.questionSearchIndex.indexAnswer(answer); // 검색 색인에 추가
+        this.questionVersions.touch(question); // 상세 화면과 목록(답변 수) 버전 증가
         return answer; // 생성된 답변 반환
     }
 
@@ -112,6 +169,8 @@ public class AnswerService {
         answer.setContent(content); // 내용 수정
         answer.setModifyDate(LocalDateTime.now()); // 수정일 설정
         this.answerRepository.save(answer); // 답변 저장
+        this.questionSearchIndex.indexAnswer(answer); // 검색 색인 갱신
+        this.questionVersions.touch(answer.getQuestion()); // 상세 화면과 목록(검색 결과는 답변 내용으로도 찾음) 버전 증가
     }
 
     /**
@@ -119,8 +178,13 @@ public class AnswerService {
      *
      * @param answer 삭제할 답변
      */
+    @Transactional
     public void delete(Answer answer) {
+        this.answerVoteRepository.deleteByAnswerId(answer.getId()); // 추천 기록 삭제
         this.answerRepository.delete(answer); // 답변 삭제
+        this.questionRepository.addAnswerCount(answer.getQuestion().getId(), -1); // 질문의 답변 수 감소
+        this.questionSearchIndex.removeAnswer(answer); // 검색 색인에서 제거
+        this.questionVersions.touch(answer.getQuestion()); // 상세 화면과 목록(답변 수) 버전 증가
     }
 
     /**
@@ -128,11 +192,19 @@ public class AnswerService {
      *
      * @param answer   투표할 답변
      * @param siteUser 투표한 사용자
+     * @return 추천 추가 여부와 현재 추천 수
      */
-    public void vote(Answer answer,
-                     SiteUser siteUser) {
-
-        answer.getVoter().add(siteUser); // 투표한 사용자를 답변의 투표자 목록에 추가
-        this.answerRepository.save(answer); // 답변 저장
+    @Timed(value = "answer.vote", histogram = true)
+    @Transactional
+    public VoteResult vote(Answer answer,
+                           SiteUser siteUser) {
+
+        // 추천 기록 추가 (이미 추천한 경우 추가되지 않음)
+        boolean voted = this.answerVoteRepository.insertIfAbsent(answer.getId(), siteUser.getId()) == 1;
+        if (voted) { // 처음 추천한 경우만
+            this.answerRepository.addVoteCount(answer.getId(), 1); // 추천 수 증가
+            this.questionVersions.touchDetail(answer.getQuestion().getId()); // 상세 화면 버전 증가
+        }
+        return new VoteResult(voted, this.answerRepository.findVoteCountById(answer.getId())); // 현재 추천 수 반환
     }
 }
\ No newline at end of file
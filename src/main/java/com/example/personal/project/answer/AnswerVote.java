@@ -0,0 +1,44 @@
+package com.example.personal.project.answer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 답변 추천 기록입니다. (답변, 사용자)가 기본 키이므로 한 사용자는 한 답변을 한 번만 추천할 수 있습니다.
+ * 기존 answer_voter 테이블을 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "answer_voter")
+@IdClass(AnswerVote.Key.class)
+public class AnswerVote {
+
+    @Id
+    @Column(name = "answer_id")
+    private Integer answerId;
+
+    @Id
+    @Column(name = "voter_id")
+    private Long voterId;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer answerId;
+        private Long voterId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.personal.project.answer;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AnswerVoteRepository extends JpaRepository<AnswerVote, AnswerVote.Key> {
+
+    // 추천 기록을 추가합니다. 이미 추천한 경우 기본 키 중복은 무시되므로 추가된 행 수(1 또는 0)로 처음 추천인지 알 수 있습니다.
+    @Transactional
+    @Modifying
+    // 네이티브 쿼리는 변경하는 테이블을 알려 주지 않으면 2차 캐시 전체를 비웁니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "answer_voter"))
+    @Query(value = "insert ignore into answer_voter (answer_id, voter_id) values (:answerId, :voterId)", nativeQuery = true)
+    int insertIfAbsent(@Param("answerId") Integer answerId,
+                       @Param("voterId") Long voterId);
+
+    // 답변을 삭제하기 전에 추천 기록을 삭제합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from AnswerVote v where v.answerId = :answerId")
+    int deleteByAnswerId(@Param("answerId") Integer answerId);
+
+    // 질문을 삭제하기 전에 질문에 달린 모든 답변의 추천 기록을 삭제합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from AnswerVote v where v.answerId in (select a.id from Answer a where a.question.id = :questionId)")
+    int deleteByQuestionId(@Param("questionId") Integer questionId);
+}
@@ -1,8 +1,18 @@
 package com.example.personal.project.category;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
+    // 제목 조회 결과는 쿼리 캐시에 보관합니다. (category 테이블이 바뀌면 무효화됩니다.)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.category")})
     Optional<Category> findByTitle(String title);
-}
\ No newline at end of file
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.category")})
+    Optional<Category> findFirstByTitleOrderByIdAsc(String title);
+}
@@ -2,28 +2,71 @@ package com.example.personal.project.category;
 
 import com.example.personal.project.error.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public Category getCategoryByTitle(String title) {
-        Optional<Category> category = this.categoryRepository.findByTitle(title);
+    // 제목 -> 카테고리. 시작할 때 모두 읽어 두고 이후에는 데이터베이스를 조회하지 않습니다.
+    private final Map<String, Category> registry = new ConcurrentHashMap<>();
+    // 제목 -> 조회/생성 중인 작업. 같은 제목의 동시 요청은 먼저 등록한 요청의 결과를 기다립니다.
+    private final Map<String, CompletableFuture<Category>> loading = new ConcurrentHashMap<>();
 
-        if (category.isEmpty()) {
-            category = Optional.ofNullable(create(title));
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRegistry() {
+        // 제목이 중복된 기존 데이터가 있으면 가장 먼저 만들어진 카테고리를 사용합니다.
+        for (Category category : this.categoryRepository.findAll(Sort.by("id"))) {
+            if (this.registry.putIfAbsent(category.getTitle(), category) != null) {
+                log.error("제목이 중복된 카테고리가 있습니다. 가장 먼저 만들어진 카테고리를 사용합니다. title={}, id={}",
+                        category.getTitle(), category.getId());
+            }
         }
+        checkTitleIndex();
+    }
 
-        if (category.isPresent()) {
-            return category.get();
-        } else {
-            throw new DataNotFoundException("question Not Found");
+    public Category getCategoryByTitle(String title) {
+        Category category = this.registry.get(title);
+        if (category != null) {
+            return category;
+        }
+
+        // 데이터베이스 작업은 맵의 잠금(synchronized) 밖에서 실행합니다.
+        // (computeIfAbsent 안에서 실행하면 가상 스레드가 캐리어 스레드에 고정되고 같은 버킷의 다른 제목도 막힙니다.)
+        CompletableFuture<Category> created = new CompletableFuture<>();
+        CompletableFuture<Category> running = this.loading.putIfAbsent(title, created);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            category = findOrCreate(title);
+            this.registry.put(title, category);
+            created.complete(category);
+            return category;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loading.remove(title, created);
         }
     }
 
@@ -34,4 +77,46 @@ public class CategoryService {
         this.categoryRepository.save(category);
         return category;
     }
-}
\ No newline at end of file
+
+    private Category findOrCreate(String title) {
+        return this.categoryRepository.findFirstByTitleOrderByIdAsc(title).orElseGet(() -> {
+            try {
+                return create(title);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 먼저 만든 경우 유니크 인덱스에 막히므로 그 카테고리를 다시 조회합니다.
+                return this.categoryRepository.findFirstByTitleOrderByIdAsc(title)
+                        .orElseThrow(() -> new DataNotFoundException("category Not Found"));
+            }
+        });
+    }
+
+    private static Category join(CompletableFuture<Category> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // ddl-auto=update는 기존 데이터에 중복 제목이 있으면 유니크 인덱스를 만들지 못하고 넘어가므로 시작할 때 확인합니다.
+    // 인덱스가 없으면 여러 서버가 같은 제목의 카테고리를 만들 수 있습니다.
+    private void checkTitleIndex() {
+        Boolean indexed = this.jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"category", "CATEGORY"}) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (indexes.next()) {
+                        if ("title".equalsIgnoreCase(indexes.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        if (!Boolean.TRUE.equals(indexed)) {
+            log.error("category.title에 유니크 인덱스가 없습니다. 중복 제목을 정리한 뒤 "
+                    + "'alter table category add constraint uk_category_title unique (title)'를 실행하세요.");
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.personal.project.comment;
 
 import com.example.personal.project.answer.Answer;
+import com.example.personal.project.answer.AnswerRepository;
 import com.example.personal.project.question.Question;
+import com.example.personal.project.question.QuestionRepository;
+import com.example.personal.project.question.QuestionVersions;
 import com.example.personal.project.user.SiteUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -13,7 +17,11 @@ import java.time.LocalDateTime;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final QuestionVersions questionVersions;
 
+    @Transactional
     public Comment create(Question question,
                           String content,
                           SiteUser author) {
@@ -24,9 +32,12 @@ public class CommentService {
         comment.setQuestion(question);
         comment.setCreateDate(LocalDateTime.now());
         this.commentRepository.save(comment);
+        this.questionRepository.addCommentCount(question.getId(), 1);
+        this.questionVersions.touchDetail(question.getId());
         return comment;
     }
 
+    @Transactional
     public Comment create(Answer answer,
                           String content,
                           SiteUser author) {
@@ -37,6 +48,8 @@ public class CommentService {
         comment.setAnswer(answer);
         comment.setCreateDate(LocalDateTime.now());
         this.commentRepository.save(comment);
+        this.answerRepository.addCommentCount(answer.getId(), 1);
+        this.questionVersions.touchDetail(answer.getQuestion().getId());
         return comment;
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.personal.project.datasource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 트랜잭션이 끝날 때마다 JDBC 커넥션을 풀에 반환하도록 합니다.
+ * 기본 설정에서는 요청 동안 열려 있는 EntityManager(open-in-view)가 처음 얻은 커넥션을 요청이 끝날 때까지 사용하므로,
+ * 요청 스레드가 작업 실행기의 조회를 기다리는 동안에도 커넥션을 붙잡아 풀이 바닥날 수 있습니다.
+ * 복제본을 설정한 경우에는 읽기 전용 트랜잭션에서 얻은 복제본 커넥션을 같은 요청의 쓰기가 사용하지 않도록 하는 역할도 합니다.
+ */
+@Configuration
+public class ConnectionReleaseConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
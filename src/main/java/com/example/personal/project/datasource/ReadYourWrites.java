@@ -0,0 +1,87 @@
+package com.example.personal.project.datasource;
+
+import com.example.personal.project.LruCache;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 사용자가 쓰기 트랜잭션을 커밋한 뒤 일정 시간 동안 그 사용자의 읽기도 주 데이터베이스에서 실행되도록 합니다.
+ * 복제 지연 때문에 방금 작성하거나 수정한 글이 보이지 않는 일을 막습니다. 사용자는 HTTP 세션으로 구분합니다.
+ * <p>
+ * 쓰기 트랜잭션의 커밋은 트랜잭션 매니저의 실행 리스너로 전달받습니다.
+ * (스프링 부트가 TransactionExecutionListener 빈을 자동으로 등록합니다.)
+ */
+public class ReadYourWrites implements TransactionExecutionListener {
+
+    private final Duration window;
+    private final long windowNanos;
+    private final LruCache<String, Long> writes; // 세션 ID -> 주 데이터베이스에서 읽어야 하는 기한 (System.nanoTime)
+
+    /**
+     * @param window  쓰기 후 주 데이터베이스에서 읽는 시간 (복제 지연보다 길어야 합니다.)
+     * @param maxSize 기억할 세션 수 (넘으면 가장 오래된 세션부터 잊습니다.)
+     */
+    public ReadYourWrites(Duration window,
+                          int maxSize) {
+
+        this.window = window;
+        this.windowNanos = window.toNanos();
+        this.writes = LruCache.ofSize(maxSize);
+    }
+
+    // 복제 지연의 상한으로도 사용합니다. (QuestionVersions)
+    public Duration getWindow() {
+        return this.window;
+    }
+
+    // 현재 요청의 사용자가 최근에 쓰기를 했으면 true를 반환합니다.
+    public boolean isSticky() {
+        String sessionId = currentSessionId();
+        if (sessionId == null) {
+            return false;
+        }
+        Long deadline = this.writes.get(sessionId);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - System.nanoTime() > 0) {
+            return true;
+        }
+        this.writes.remove(sessionId);
+        return false;
+    }
+
+    // 현재 요청의 사용자가 쓰기를 했음을 기록합니다.
+    public void recordWrite() {
+        String sessionId = currentSessionId();
+        if (sessionId != null) {
+            this.writes.put(sessionId, System.nanoTime() + this.windowNanos);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction,
+                            Throwable commitFailure) {
+
+        // 바깥 트랜잭션이 커밋될 때 한 번만 기록합니다.
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            recordWrite();
+        }
+    }
+
+    // 요청 처리 중이 아니거나 세션이 없으면 null을 반환합니다. (세션을 새로 만들지 않습니다.)
+    private static String currentSessionId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpSession session = servletAttributes.getRequest().getSession(false);
+        return session != null ? session.getId() : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.personal.project.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 복제본에서 실행되는 읽기 전용 트랜잭션은 2차 캐시를 읽기만 하고 채우지 않습니다. (CacheMode.GET)
+ * 쓰기로 캐시에서 제거된 엔티티를 아직 복제되지 않은 복제본에서 다시 읽어 넣으면
+ * 복제 지연보다 훨씬 긴 캐시 만료 시간 동안 이전 값이 남기 때문입니다.
+ */
+public class ReplicaCacheMode implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaCacheMode(EntityManagerFactory entityManagerFactory,
+                            ReadYourWrites readYourWrites) {
+
+        this.entityManagerFactory = entityManagerFactory;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction,
+                           Throwable beginFailure) {
+
+        // ReplicaRoutingDataSource와 같은 조건으로 복제본 트랜잭션인지 판단합니다.
+        if (beginFailure != null || !transaction.isNewTransaction() || !transaction.isReadOnly()
+                || this.readYourWrites.isSticky() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(this.entityManagerFactory);
+        if (entityManager == null) {
+            return;
+        }
+
+        // open-in-view 세션은 요청 동안 계속 사용되므로 트랜잭션이 끝나면 원래 모드로 되돌립니다.
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                session.setCacheMode(previous);
+            }
+        });
+    }
+}
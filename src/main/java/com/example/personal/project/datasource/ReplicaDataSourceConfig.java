@@ -0,0 +1,89 @@
+package com.example.personal.project.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * replica.datasource.jdbc-url이 설정되어 있으면 읽기 전용 트랜잭션을 복제본 커넥션 풀로 보냅니다.
+ * 주 데이터베이스 풀은 spring.datasource.*, 복제본 풀은 replica.datasource.* (HikariCP 설정 이름) 값으로 만듭니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replica.datasource", name = "jdbc-url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.datasource")
+    HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReadYourWrites readYourWrites(@Value("${replica.read-your-writes.window:5s}") Duration window,
+                                  @Value("${replica.read-your-writes.max-sessions:100000}") int maxSessions) {
+
+        return new ReadYourWrites(window, maxSessions);
+    }
+
+    // 복제본 트랜잭션의 엔티티를 2차 캐시에 넣지 않습니다.
+    // (스프링 부트가 TransactionExecutionListener 빈을 트랜잭션 매니저에 등록합니다.)
+    @Bean
+    ReplicaCacheMode replicaCacheMode(EntityManagerFactory entityManagerFactory,
+                                      ReadYourWrites readYourWrites) {
+
+        return new ReplicaCacheMode(entityManagerFactory, readYourWrites);
+    }
+
+    // JPA, JdbcTemplate 등 애플리케이션 전체가 사용하는 DataSource입니다.
+    // 실제 커넥션은 첫 SQL을 실행할 때 얻으므로 그때의 트랜잭션 속성으로 주 데이터베이스와 복제본 중 하나를 고릅니다.
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                          @Qualifier("replicaDataSource") DataSource replica,
+                          ReadYourWrites readYourWrites) {
+
+        // (트랜잭션이 끝날 때마다 커넥션을 반환하는 설정은 ConnectionReleaseConfig에 있습니다.)
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, readYourWrites));
+    }
+
+    // 프로필 화면처럼 작업 실행기에서 실행되는 조회도 요청한 사용자의 쓰기 여부를 알 수 있도록 요청 정보를 전달합니다.
+    // (스프링 부트가 TaskDecorator 빈을 applicationTaskExecutor에 적용합니다.)
+    @Bean
+    TaskDecorator requestAttributesTaskDecorator() {
+        return task -> {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return task;
+            }
+            return () -> {
+                RequestContextHolder.setRequestAttributes(attributes);
+                try {
+                    task.run();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.personal.project.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 밖의 작업(쓰기 트랜잭션, 트랜잭션 밖의 조회)은 주 데이터베이스로 보냅니다.
+ * 최근에 쓰기를 한 사용자의 읽기 전용 트랜잭션도 주 데이터베이스로 보냅니다.
+ * <p>
+ * 커넥션을 얻는 시점에 대상을 정하므로 LazyConnectionDataSourceProxy로 감싸 트랜잭션이 시작되고
+ * 첫 SQL을 실행할 때 커넥션을 얻도록 해야 합니다. (트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않습니다.)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReadYourWrites readYourWrites) {
+
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !this.readYourWrites.isSticky()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
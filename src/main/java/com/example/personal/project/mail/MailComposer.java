@@ -0,0 +1,25 @@
+package com.example.personal.project.mail;
+
+import org.springframework.mail.SimpleMailMessage;
+
+/**
+ * 본문을 테이블에 저장하지 않고 보낼 때 만드는 메일입니다. (임시 비밀번호처럼 저장하면 안 되는 내용)
+ * 대기열에는 종류와 참조 ID만 저장하며, 발송을 시도할 때마다 본문을 새로 만듭니다.
+ */
+public interface MailComposer {
+
+    // MailOutbox.type에 저장되는 메일 종류
+    String getType();
+
+    /**
+     * 보낼 메일을 만듭니다. 더 이상 보낼 필요가 없으면 null을 반환하며, 이 경우 메일을 삭제합니다.
+     */
+    Composed compose(MailOutbox mail);
+
+    /**
+     * @param message 보낼 메일
+     * @param onSent  발송에 성공한 뒤 실행할 작업 (예: 메일에 적은 임시 비밀번호 적용). 실패하면 메일을 다시 만들어 보냅니다.
+     */
+    record Composed(SimpleMailMessage message, Runnable onSent) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.personal.project.mail;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보내야 할 메일입니다. 발송에 성공하면 삭제하므로 남아 있는 행은 모두 대기 중이거나 실패한 메일입니다.
+ * type이 있는 메일은 본문을 저장하지 않고 보낼 때 해당 MailComposer가 만듭니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class MailOutbox {
+
+    public static final String PENDING = "PENDING"; // 발송 대기 (재시도 포함)
+    public static final String FAILED = "FAILED"; // 최대 시도 횟수를 넘어 더 이상 보내지 않음
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String text; // 실패로 중단된 메일은 본문을 지웁니다.
+
+    @Column(length = 30)
+    private String type; // 보낼 때 본문을 만드는 메일의 종류 (MailComposer)
+
+    private Long reference; // type 메일이 참조하는 ID (예: 사용자 ID)
+
+    @Column(length = 10)
+    private String status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createDate;
+}
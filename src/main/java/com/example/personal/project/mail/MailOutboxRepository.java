@@ -0,0 +1,17 @@
+package com.example.personal.project.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 보낼 시각이 된 대기 메일을 오래된 순서로 조회합니다.
+    List<MailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(String status,
+                                                                          LocalDateTime now,
+                                                                          Pageable pageable);
+
+    long countByStatus(String status);
+}
@@ -0,0 +1,362 @@
+package com.example.personal.project.mail;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 발송 대기열입니다.
+ * <p>
+ * 메일은 먼저 mail_outbox 테이블에 저장한 뒤 크기가 제한된 큐에 넣고, 소수의 작업 스레드가 큐에서 여러 건을 꺼내
+ * 한 번의 SMTP 연결로 보냅니다. 실패한 메일은 지수적으로 늘어나는 간격으로 다시 시도하며, 큐가 가득 찼거나
+ * 서버가 재시작된 경우에도 테이블에 남아 있는 메일은 주기적인 조회로 다시 큐에 들어갑니다.
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final Map<String, MailComposer> composers = new HashMap<>(); // 메일 종류 -> 본문을 만드는 컴포넌트
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final BlockingQueue<Long> queue; // 보낼 메일 ID
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet(); // 큐에 있거나 발송 중인 메일 ID
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    // 통계 (Micrometer 미터로 등록됩니다.)
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final AtomicLong pendingCount = new AtomicLong(); // 테이블의 대기 메일 수 (주기적 조회 때 갱신)
+    private final Timer deliveryTimer; // 저장부터 발송 완료까지 걸린 시간
+    private final MeterRegistry meterRegistry;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+                             JavaMailSender mailSender,
+                             List<MailComposer> composers,
+                             MeterRegistry meterRegistry,
+                             @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                             @Value("${mail.dispatch.workers:2}") int workers,
+                             @Value("${mail.dispatch.batch-size:20}") int batchSize,
+                             @Value("${mail.dispatch.max-attempts:6}") int maxAttempts,
+                             @Value("${mail.dispatch.initial-backoff:30s}") Duration initialBackoff,
+                             @Value("${mail.dispatch.max-backoff:30m}") Duration maxBackoff) {
+
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        composers.forEach(composer -> this.composers.put(composer.getType(), composer));
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.meterRegistry = meterRegistry;
+        this.deliveryTimer = Timer.builder("mail.delivery.latency").publishPercentileHistogram().register(meterRegistry);
+
+        Gauge.builder("mail.queue.depth", this.queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("mail.outbox.pending", this, MailOutboxService::getPendingCount).register(meterRegistry);
+        FunctionCounter.builder("mail.messages", this.sentCount, LongAdder::sum).tag("result", "sent").register(meterRegistry);
+        FunctionCounter.builder("mail.messages", this.retryCount, LongAdder::sum).tag("result", "retry").register(meterRegistry);
+        FunctionCounter.builder("mail.messages", this.failedCount, LongAdder::sum).tag("result", "failed").register(meterRegistry);
+        FunctionCounter.builder("mail.messages", this.rejectedCount, LongAdder::sum).tag("result", "rejected").register(meterRegistry);
+    }
+
+    // 작업 스레드는 가상 스레드 모드에서도 플랫폼 스레드를 사용합니다.
+    // JavaMail의 SMTPTransport는 synchronized 메서드 안에서 소켓 I/O를 하므로 가상 스레드가 캐리어 스레드에 고정됩니다.
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.running = true;
+        this.executor = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < this.workers; i++) {
+            this.executor.execute(this::work);
+        }
+    }
+
+    // 종료할 때 보내지 못한 메일은 테이블에 남아 있으므로 다음 실행 때 다시 보냅니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        this.running = false;
+        this.executor.shutdownNow();
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 본문까지 저장하여 발송 큐에 넣습니다. 본문이 테이블에 남으므로 테스트에서만 사용합니다.
+     *
+     * @param message 보낼 메일 (수신자는 한 명)
+     */
+    void enqueue(SimpleMailMessage message) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient(message.getTo()[0]);
+        mail.setSubject(message.getSubject());
+        mail.setText(message.getText());
+        save(mail);
+    }
+
+    /**
+     * 본문 없이 메일 종류와 참조 ID만 저장하고 발송 큐에 넣습니다. 본문은 보낼 때 MailComposer가 만듭니다.
+     *
+     * @param type      메일 종류 (MailComposer.getType())
+     * @param recipient 수신자
+     * @param reference 본문을 만들 때 사용할 ID
+     */
+    public void enqueue(String type,
+                        String recipient,
+                        Long reference) {
+
+        if (!this.composers.containsKey(type)) {
+            throw new IllegalArgumentException("알 수 없는 메일 종류입니다: " + type);
+        }
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient(recipient);
+        mail.setType(type);
+        mail.setReference(reference);
+        save(mail);
+    }
+
+    private void save(MailOutbox mail) {
+        mail.setStatus(MailOutbox.PENDING);
+        mail.setCreateDate(LocalDateTime.now());
+        mail.setNextAttemptAt(mail.getCreateDate());
+        this.mailOutboxRepository.save(mail);
+        offer(mail.getId());
+    }
+
+    // 보낼 시각이 된 메일을 테이블에서 찾아 큐에 넣습니다. (큐가 넘친 메일, 재시도, 재시작 전 메일)
+    @Scheduled(fixedDelayString = "${mail.dispatch.poll-interval:10000}")
+    public void poll() {
+        // 메트릭 수집 때마다 테이블을 세지 않도록 조회 주기마다 한 번만 셉니다.
+        this.pendingCount.set(this.mailOutboxRepository.countByStatus(MailOutbox.PENDING));
+        int capacity = this.queue.remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<MailOutbox> due = this.mailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                MailOutbox.PENDING, LocalDateTime.now(), PageRequest.of(0, capacity));
+        for (MailOutbox mail : due) {
+            if (!offer(mail.getId())) {
+                break;
+            }
+        }
+    }
+
+    private boolean offer(Long id) {
+        if (!this.inFlight.add(id)) {
+            return true; // 이미 큐에 있거나 발송 중
+        }
+        if (!this.queue.offer(id)) {
+            this.inFlight.remove(id);
+            this.rejectedCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // 작업 스레드: 큐에서 한 건을 기다린 뒤 쌓여 있는 메일을 배치 크기만큼 함께 꺼내 보냅니다.
+    private void work() {
+        List<Long> ids = new ArrayList<>(this.batchSize);
+        while (this.running) {
+            try {
+                Long first = this.queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                ids.add(first);
+                this.queue.drainTo(ids, this.batchSize - 1);
+                send(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("메일 발송 처리 중 오류가 발생했습니다.", e);
+            } finally {
+                ids.forEach(this.inFlight::remove);
+                ids.clear();
+            }
+        }
+    }
+
+    private void send(List<Long> ids) {
+        List<MailOutbox> mails = this.mailOutboxRepository.findAllById(ids);
+        if (mails.isEmpty()) {
+            return; // 아직 커밋되지 않았거나 이미 처리된 메일은 다음 조회 때 다시 확인합니다.
+        }
+
+        Map<SimpleMailMessage, MailOutbox> messages = new IdentityHashMap<>();
+        Map<SimpleMailMessage, Runnable> callbacks = new IdentityHashMap<>();
+        List<Long> discarded = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            MailComposer.Composed composed = compose(mail);
+            if (composed == null) {
+                discarded.add(mail.getId());
+                continue;
+            }
+            messages.put(composed.message(), mail);
+            if (composed.onSent() != null) {
+                callbacks.put(composed.message(), composed.onSent());
+            }
+        }
+        if (!discarded.isEmpty()) {
+            this.mailOutboxRepository.deleteAllByIdInBatch(discarded);
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        try {
+            // JavaMailSender는 여러 메일을 한 번의 연결로 보냅니다.
+            this.mailSender.send(messages.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? failAll(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = failAll(messages, e);
+        }
+        sample.stop(this.meterRegistry.timer("mail.send", "outcome", failures.isEmpty() ? "success" : "failure"));
+
+        List<Long> sent = new ArrayList<>();
+        List<MailOutbox> retry = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<SimpleMailMessage, MailOutbox> entry : messages.entrySet()) {
+            MailOutbox mail = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                failure = runCallback(callbacks.get(entry.getKey()), mail);
+            }
+            if (failure == null) {
+                sent.add(mail.getId());
+                this.deliveryTimer.record(Duration.between(mail.getCreateDate(), now));
+            } else {
+                retry.add(scheduleRetry(mail, failure, now));
+            }
+        }
+
+        // 보낸 메일은 바로 삭제합니다.
+        if (!sent.isEmpty()) {
+            this.mailOutboxRepository.deleteAllByIdInBatch(sent);
+            this.sentCount.add(sent.size());
+        }
+        if (!retry.isEmpty()) {
+            this.mailOutboxRepository.saveAll(retry);
+        }
+    }
+
+    // 저장된 본문으로 메일을 만들거나, 종류가 있으면 MailComposer로 본문을 새로 만듭니다.
+    private MailComposer.Composed compose(MailOutbox mail) {
+        if (mail.getType() == null) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getText());
+            return new MailComposer.Composed(message, null);
+        }
+        MailComposer composer = this.composers.get(mail.getType());
+        if (composer == null) {
+            log.warn("알 수 없는 메일 종류입니다. id={}, type={}", mail.getId(), mail.getType());
+            return null;
+        }
+        return composer.compose(mail);
+    }
+
+    // 발송 후 작업이 실패하면 메일을 삭제하지 않고 발송 실패와 같이 다시 시도합니다.
+    // (MailComposer가 본문을 새로 만들므로 다시 보낸 메일과 발송 후 작업의 내용이 일치합니다.)
+    private static Exception runCallback(Runnable callback,
+                                         MailOutbox mail) {
+
+        if (callback == null) {
+            return null;
+        }
+        try {
+            callback.run();
+            return null;
+        } catch (RuntimeException e) {
+            log.error("메일 발송 후 작업이 실패했습니다. id={}", mail.getId(), e);
+            return e;
+        }
+    }
+
+    private static Map<Object, Exception> failAll(Map<SimpleMailMessage, MailOutbox> messages,
+                                                  Exception e) {
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private MailOutbox scheduleRetry(MailOutbox mail,
+                                     Exception failure,
+                                     LocalDateTime now) {
+
+        mail.setAttempts(mail.getAttempts() + 1);
+        mail.setLastError(abbreviate(String.valueOf(failure.getMessage())));
+        if (mail.getAttempts() >= this.maxAttempts) {
+            mail.setStatus(MailOutbox.FAILED);
+            mail.setText(null); // 보내지 못한 본문은 남겨 두지 않습니다.
+            this.failedCount.increment();
+            log.warn("메일 발송에 {}번 실패하여 중단합니다. id={}", mail.getAttempts(), mail.getId());
+        } else {
+            mail.setNextAttemptAt(now.plus(backoff(mail.getAttempts())));
+            this.retryCount.increment();
+        }
+        return mail;
+    }
+
+    // 초기 간격 * 2^(시도 횟수 - 1), 최대 간격을 넘지 않습니다.
+    Duration backoff(int attempts) {
+        Duration delay = this.initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : delay;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    // 마지막 조회 주기에 센 값입니다.
+    public long getPendingCount() {
+        return this.pendingCount.get();
+    }
+}
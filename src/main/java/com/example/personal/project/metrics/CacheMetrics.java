@@ -0,0 +1,43 @@
+package com.example.personal.project.metrics;
+
+import com.example.personal.project.CommonUtil;
+import com.example.personal.project.LruCache;
+import com.example.personal.project.user.UserCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 메모리 캐시(마크다운 HTML, 사용자)의 적중/실패 수와 크기를 등록합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    private final CommonUtil commonUtil;
+    private final UserCache userCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "markdown", this.commonUtil.getHtmlCache());
+        bind(registry, "user", this.userCache.getUsers());
+    }
+
+    private static void bind(MeterRegistry registry,
+                             String name,
+                             LruCache<?, ?> cache) {
+
+        FunctionCounter.builder("app.cache.gets", cache, LruCache::getHitCount)
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("app.cache.gets", cache, LruCache::getMissCount)
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        Gauge.builder("app.cache.size", cache, LruCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.personal.project.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 애너테이션이 붙은 빈 메서드의 실행 시간을 타이머로 기록합니다.
+    // (스프링 부트 3.2의 자동 구성은 micrometer.observations.annotations.enabled가 필요하므로 직접 등록합니다.)
+    @Bean
+    TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
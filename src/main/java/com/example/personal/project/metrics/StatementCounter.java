@@ -0,0 +1,28 @@
+package com.example.personal.project.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문 수를 현재 스레드 기준으로 셉니다.
+ * 요청마다 reset()으로 초기화하고 요청이 끝나면 count()를 기록합니다. (JdbcTemplate으로 직접 실행한 SQL은 포함되지 않습니다.)
+ * <p>
+ * hibernate.session_factory.statement_inspector 속성으로 등록하며, Hibernate가 기본 생성자로 만듭니다.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+}
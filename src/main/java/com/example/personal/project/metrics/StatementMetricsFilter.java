@@ -0,0 +1,43 @@
+package com.example.personal.project.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나에서 실행된 SQL 문 수를 URI 패턴별 분포(hibernate.statements.per.request)로 기록합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        StatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("hibernate.statements.per.request")
+                    .description("SQL statements executed by Hibernate per HTTP request")
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .serviceLevelObjectives(1, 3, 6, 10, 20, 50)
+                    .register(this.meterRegistry)
+                    .record(StatementCounter.count());
+        }
+    }
+}
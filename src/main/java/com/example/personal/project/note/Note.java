@@ -11,12 +11,14 @@ import java.time.LocalDateTime;
 @Entity
 @Setter
 @Getter
+@Table(indexes = @Index(name = "idx_note_notebook_create_date", columnList = "notebook_id, create_date"))
 public class Note {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
+    @Column(columnDefinition = "TEXT")
     private String content;
     private LocalDateTime createDate;
 
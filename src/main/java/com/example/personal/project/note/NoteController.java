@@ -1,14 +1,21 @@
 package com.example.personal.project.note;
 
+import com.example.personal.project.error.DataNotFoundException;
 import com.example.personal.project.notebook.Notebook;
+import com.example.personal.project.notebook.NotebookNode;
 import com.example.personal.project.notebook.NotebookRepository;
+import com.example.personal.project.notebook.NotebookService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.List;
 
@@ -20,25 +27,26 @@ public class NoteController {
     private final NoteRepository noteRepository;
     private final NotebookRepository notebookRepository;
     private final NoteService noteService;
+    private final NotebookService notebookService;
 
     @PostMapping("/write")
     public String write(@PathVariable("notebookId") Long notebookId) {
         Notebook notebook = notebookRepository.findById(notebookId).orElseThrow();
-        Note note = noteService.saveDefault();
-        notebook.addNote(note);
-        notebookRepository.save(notebook);
+        noteService.saveDefault(notebook);
         return "redirect:/";
     }
 
     @GetMapping("/{id}")
-    public String detail(Model model, @PathVariable("notebookId") Long notebookId, @PathVariable("id") Long id) {
+    public String detail(Model model, @PathVariable("notebookId") Long notebookId, @PathVariable("id") Long id,
+                         @RequestParam(value = "page", defaultValue = "0") int page) {
+        // 본문은 선택한 노트만 읽고, 목록은 제목과 작성일시만 읽습니다.
         Note note = noteRepository.findById(id).get();
 
-        List<Notebook> notebookList = notebookRepository.findAll();
+        List<NotebookNode> notebookTree = notebookService.getTree();
         Notebook targetNotebook = notebookRepository.findById(notebookId).get();
-        List<Note> noteList = noteRepository.findByNotebook(targetNotebook);
+        Slice<NoteSummary> noteList = noteService.getSummaries(notebookId, page);
 
-        model.addAttribute("notebookList", notebookList);
+        model.addAttribute("notebookTree", notebookTree);
         model.addAttribute("targetNotebook", targetNotebook);
         model.addAttribute("targetNote", note);
         model.addAttribute("noteList", noteList);
@@ -57,17 +65,34 @@ public class NoteController {
             title = "제목 없음";
         }
 
-        note.setTitle(title);
-        note.setContent(content);
-
-        noteRepository.save(note);
+        // 변경 내용은 리비전으로 기록됩니다.
+        noteService.update(note, title, content);
         return "redirect:/books/%d/notes/%d".formatted(notebookId, id);
     }
 
     @PostMapping("/{id}/delete")
     public String delete(@PathVariable("notebookId") Long notebookId, @PathVariable("id") Long id) {
 
-        noteRepository.deleteById(id);
+        noteService.delete(id);
         return "redirect:/";
     }
+
+    // 노트의 리비전 번호 목록 (최신순)
+    @GetMapping("/{id}/revisions")
+    @ResponseBody
+    public List<Integer> revisions(@PathVariable("notebookId") Long notebookId, @PathVariable("id") Long id) {
+        Note note = noteRepository.findById(id).orElseThrow(() -> new DataNotFoundException("note not found"));
+        return noteService.getRevisionNumbers(note);
+    }
+
+    // 특정 리비전의 본문
+    @GetMapping(value = "/{id}/revisions/{revision}", produces = MediaType.TEXT_PLAIN_VALUE)
+    @ResponseBody
+    public String revision(@PathVariable("notebookId") Long notebookId,
+                           @PathVariable("id") Long id,
+                           @PathVariable("revision") int revision) {
+
+        Note note = noteRepository.findById(id).orElseThrow(() -> new DataNotFoundException("note not found"));
+        return noteService.getRevisionContent(note, revision);
+    }
 }
@@ -1,10 +1,42 @@
 package com.example.personal.project.note;
 
 import com.example.personal.project.notebook.Notebook;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
     List<Note> findByNotebook(Notebook notebook);
+
+    // 노트 행을 잠급니다. 같은 노트의 다른 수정은 이 트랜잭션이 끝날 때까지 기다립니다.
+    @Query(value = "select id from note where id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // 영속성 컨텍스트의 노트와 관계없이 저장된 본문을 읽습니다.
+    @Query("select n.content from Note n where n.id = :id")
+    String findContentById(@Param("id") Long id);
+
+    // 노트 목록 (제목, 작성일시만 조회하며 정렬과 페이징은 Pageable로 지정합니다.)
+    Slice<NoteSummary> findByNotebookId(Long notebookId,
+                                        Pageable pageable);
+
+    // 경로 접두사에 해당하는 노트북 트리의 노트 ID (삭제할 때 나누어 처리하기 위해 사용합니다.)
+    @Query("select n.id from Note n where n.notebook.path like concat(:path, '%') order by n.id")
+    List<Long> findIdsInTree(@Param("path") String path,
+                             Pageable pageable);
+
+    @Modifying
+    @Query("delete from Note n where n.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 노트북 트리에 남아 있는 노트를 모두 삭제합니다.
+    @Modifying
+    @Query("delete from Note n where n.notebook.id in (select b.id from Notebook b where b.path like concat(:path, '%'))")
+    int deleteInTree(@Param("path") String path);
 }
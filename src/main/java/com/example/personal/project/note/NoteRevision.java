@@ -0,0 +1,94 @@
+package com.example.personal.project.note;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노트 본문의 변경 이력입니다.
+ * <p>
+ * 스냅샷은 본문 전체를 text에 저장하고, 델타는 이전 리비전과 앞부분(prefixLength)과 뒷부분(suffixLength)이 같다고 보고
+ * 그 사이에 바뀐 부분만 text에 저장합니다.
+ * 이전 리비전의 본문에 델타를 적용하면 prev[0, prefixLength) + text + prev[prev.length - suffixLength, prev.length) 가 됩니다.
+ * <p>
+ * 압축된 델타는 이전 리비전 대신 가장 가까운 앞 스냅샷(baseRevision)을 기준으로 저장되어 스냅샷에 바로 적용됩니다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_note_revision_note_revision", columnNames = {"note_id", "revision"}))
+public class NoteRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Note note;
+
+    // 노트별 리비전 번호 (1부터 시작)
+    private int revision;
+
+    private boolean snapshot;
+
+    private int prefixLength;
+
+    private int suffixLength;
+
+    // 델타의 기준 스냅샷 리비전 (null이면 바로 앞 리비전이 기준입니다.)
+    private Integer baseRevision;
+
+    @Column(columnDefinition = "TEXT")
+    private String text;
+
+    private String title;
+
+    private LocalDateTime createDate;
+
+    // base 본문과 content의 앞뒤 공통 부분을 빼고 바뀐 부분만 델타로 저장합니다.
+    public void setDelta(String base, String content) {
+        int prefix = commonPrefix(base, content);
+        int suffix = commonSuffix(base, content, prefix);
+        this.snapshot = false;
+        this.prefixLength = prefix;
+        this.suffixLength = suffix;
+        this.text = content.substring(prefix, content.length() - suffix);
+    }
+
+    // 이전 리비전(압축된 델타는 기준 스냅샷)의 본문에 이 리비전을 적용한 결과를 반환합니다.
+    public String applyTo(String previous) {
+        if (this.snapshot) {
+            return this.text;
+        }
+        return previous.substring(0, this.prefixLength) + this.text
+                + previous.substring(previous.length() - this.suffixLength);
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        // 서로게이트 쌍 중간에서 자르지 않습니다.
+        if (i > 0 && Character.isHighSurrogate(a.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    // 앞부분과 겹치지 않도록 prefix 이후에서만 비교합니다.
+    private static int commonSuffix(String a, String b, int prefix) {
+        int max = Math.min(a.length(), b.length()) - prefix;
+        int i = 0;
+        while (i < max && a.charAt(a.length() - 1 - i) == b.charAt(b.length() - 1 - i)) {
+            i++;
+        }
+        if (i > 0 && Character.isLowSurrogate(b.charAt(b.length() - i))) {
+            i--;
+        }
+        return i;
+    }
+}
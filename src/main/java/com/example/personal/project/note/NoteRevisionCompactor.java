@@ -0,0 +1,57 @@
+package com.example.personal.project.note;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 노트 리비전의 델타를 압축하는 작업입니다.
+ * 바로 앞 리비전을 기준으로 저장된 델타를 가장 가까운 앞 스냅샷을 기준으로 다시 저장하므로,
+ * 압축된 리비전은 앞 델타를 차례로 적용하지 않고 스냅샷과 델타 하나로 만들어집니다.
+ * 모든 리비전이 자신의 행을 그대로 가지므로 삭제되는 이력은 없습니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class NoteRevisionCompactor {
+
+    private static final int CHUNK_SIZE = 1000; // 한 트랜잭션에서 다시 저장할 리비전 수
+
+    private final NoteRevisionRepository noteRevisionRepository;
+    private final NoteService noteService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${note.revision.compact-after-days:30}")
+    private int compactAfterDays;
+
+    @Scheduled(cron = "${note.revision.compact-cron:0 0 5 * * *}")
+    public void compact() {
+        LocalDateTime before = LocalDateTime.now().minusDays(this.compactAfterDays);
+        List<Long> ids;
+        do {
+            ids = this.noteRevisionRepository.findCompactableIds(before, PageRequest.of(0, CHUNK_SIZE));
+            if (!ids.isEmpty()) {
+                List<Long> chunk = ids;
+                this.transactionTemplate.executeWithoutResult(status -> rebase(chunk));
+            }
+        } while (ids.size() == CHUNK_SIZE);
+    }
+
+    // 각 리비전의 본문을 만든 뒤 앞 스냅샷에 대한 델타로 바꿉니다. (본문은 바뀌지 않으므로 처리 순서와 관계없습니다.)
+    private void rebase(List<Long> ids) {
+        for (NoteRevision revision : this.noteRevisionRepository.findAllById(ids)) {
+            String content = this.noteService.getRevisionContent(revision.getNote(), revision.getRevision());
+            NoteRevision snapshot = this.noteRevisionRepository
+                    .findFirstByNoteAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(revision.getNote(),
+                            revision.getRevision())
+                    .orElseThrow();
+            revision.setDelta(snapshot.getText(), content);
+            revision.setBaseRevision(snapshot.getRevision());
+        }
+    }
+}
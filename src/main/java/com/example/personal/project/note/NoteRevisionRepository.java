@@ -0,0 +1,43 @@
+package com.example.personal.project.note;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NoteRevisionRepository extends JpaRepository<NoteRevision, Long> {
+
+    Optional<NoteRevision> findFirstByNoteOrderByRevisionDesc(Note note);
+
+    // 주어진 리비전 이전의 가장 가까운 스냅샷
+    Optional<NoteRevision> findFirstByNoteAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(Note note,
+                                                                                                   int revision);
+
+    List<NoteRevision> findByNoteAndRevisionBetweenOrderByRevisionAsc(Note note,
+                                                                     int from,
+                                                                     int to);
+
+    // 본문 없이 리비전 목록만 조회합니다.
+    @Query("select r.revision from NoteRevision r where r.note = :note order by r.revision desc")
+    List<Integer> findRevisionNumbers(@Param("note") Note note);
+
+    // 압축 대상: 오래되었고 아직 바로 앞 리비전을 기준으로 저장된 델타
+    @Query("select r.id from NoteRevision r where r.snapshot = false and r.baseRevision is null "
+            + "and r.createDate < :before order by r.id")
+    List<Long> findCompactableIds(@Param("before") LocalDateTime before,
+                                  Pageable pageable);
+
+    @Modifying
+    @Query("delete from NoteRevision r where r.note.id in :noteIds")
+    int deleteByNoteIds(@Param("noteIds") List<Long> noteIds);
+
+    @Modifying
+    @Query("delete from NoteRevision r where r.note.id in "
+            + "(select n.id from Note n where n.notebook.path like concat(:path, '%'))")
+    int deleteInTree(@Param("path") String path);
+}
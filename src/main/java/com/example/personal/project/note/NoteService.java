@@ -1,14 +1,26 @@
 package com.example.personal.project.note;
 
+import com.example.personal.project.error.DataNotFoundException;
+import com.example.personal.project.notebook.Notebook;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class NoteService {
+    public static final int SNAPSHOT_INTERVAL = 20; // 이 간격마다 본문 전체를 스냅샷으로 저장합니다.
+    public static final int LIST_SIZE = 50; // 노트 목록 한 페이지에 표시할 노트 수
+
     private final NoteRepository noteRepository;
+    private final NoteRevisionRepository noteRevisionRepository;
 
     public Note saveDefault() {
         Note note = new Note();
@@ -18,4 +30,100 @@ public class NoteService {
 
         return noteRepository.save(note);
     }
+
+    // 노트북에 기본 노트를 추가합니다. (노트북의 노트 컬렉션을 읽지 않습니다.)
+    public Note saveDefault(Notebook notebook) {
+        Note note = new Note();
+        note.setTitle("new title..");
+        note.setContent("");
+        note.setCreateDate(LocalDateTime.now());
+        note.setNotebook(notebook);
+
+        return noteRepository.save(note);
+    }
+
+    // 노트북의 노트 목록을 작성 순서대로 페이지 단위로 조회합니다.
+    public Slice<NoteSummary> getSummaries(Long notebookId, int page) {
+        Pageable pageable = PageRequest.of(page, LIST_SIZE, Sort.by(Sort.Order.asc("createDate"), Sort.Order.asc("id")));
+        return noteRepository.findByNotebookId(notebookId, pageable);
+    }
+
+    // 노트를 수정하고 변경 내용을 리비전으로 기록합니다.
+    // 노트 행을 잠근 뒤 저장된 본문을 기준으로 델타를 만들고 다음 리비전 번호를 정합니다. (동시 수정은 차례로 기록됩니다.)
+    @Transactional
+    public void update(Note note, String title, String content) {
+        noteRepository.lockById(note.getId()).orElseThrow(() -> new DataNotFoundException("note not found"));
+        String previous = noteRepository.findContentById(note.getId());
+        if (previous == null) {
+            previous = "";
+        }
+        if (content == null) {
+            content = "";
+        }
+        if (previous.equals(content) && title.equals(note.getTitle())) {
+            return;
+        }
+
+        int revision = noteRevisionRepository.findFirstByNoteOrderByRevisionDesc(note)
+                .map(NoteRevision::getRevision)
+                .orElse(0) + 1;
+        // 이력이 없는 노트(기존 노트 포함)는 수정 전 본문을 첫 리비전으로 먼저 저장합니다.
+        if (revision == 1) {
+            saveRevision(note, revision++, note.getTitle(), previous, previous,
+                    note.getCreateDate() == null ? LocalDateTime.now() : note.getCreateDate());
+        }
+        saveRevision(note, revision, title, previous, content, LocalDateTime.now());
+
+        note.setTitle(title);
+        note.setContent(content);
+        noteRepository.save(note);
+    }
+
+    // 첫 리비전과 SNAPSHOT_INTERVAL 번째마다 스냅샷을, 그 밖에는 이전 본문에 대한 델타를 저장합니다.
+    private void saveRevision(Note note, int revision, String title, String previous, String content,
+                              LocalDateTime createDate) {
+        NoteRevision noteRevision = new NoteRevision();
+        noteRevision.setNote(note);
+        noteRevision.setRevision(revision);
+        noteRevision.setTitle(title);
+        noteRevision.setCreateDate(createDate);
+        if ((revision - 1) % SNAPSHOT_INTERVAL == 0) {
+            noteRevision.setSnapshot(true);
+            noteRevision.setText(content);
+        } else {
+            noteRevision.setDelta(previous, content);
+        }
+        noteRevisionRepository.save(noteRevision);
+    }
+
+    // 주어진 리비전의 본문을 가장 가까운 스냅샷과 그 뒤의 델타(최대 SNAPSHOT_INTERVAL - 1개)로 만듭니다.
+    // 압축된 델타는 스냅샷에 바로 적용되므로, 압축된 리비전은 스냅샷과 델타 하나로 만들어집니다.
+    @Transactional(readOnly = true)
+    public String getRevisionContent(Note note, int revision) {
+        NoteRevision snapshot = noteRevisionRepository
+                .findFirstByNoteAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(note, revision)
+                .orElseThrow(() -> new DataNotFoundException("revision not found"));
+        List<NoteRevision> deltas = noteRevisionRepository
+                .findByNoteAndRevisionBetweenOrderByRevisionAsc(note, snapshot.getRevision() + 1, revision);
+        if (deltas.size() != revision - snapshot.getRevision()) {
+            throw new DataNotFoundException("revision not found");
+        }
+
+        String content = snapshot.getText();
+        for (NoteRevision delta : deltas) {
+            content = delta.applyTo(delta.getBaseRevision() != null ? snapshot.getText() : content);
+        }
+        return content;
+    }
+
+    public List<Integer> getRevisionNumbers(Note note) {
+        return noteRevisionRepository.findRevisionNumbers(note);
+    }
+
+    // 리비전을 먼저 삭제한 뒤 노트를 삭제합니다.
+    @Transactional
+    public void delete(Long id) {
+        noteRevisionRepository.deleteByNoteIds(List.of(id));
+        noteRepository.deleteById(id);
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.personal.project.note;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노트 목록에 표시할 컬럼만 읽어오는 프로젝션입니다. (본문은 읽지 않습니다.)
+ */
+public interface NoteSummary {
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getCreateDate();
+}
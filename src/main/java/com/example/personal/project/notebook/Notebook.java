@@ -11,12 +11,19 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
+@Table(indexes = @Index(name = "idx_notebook_path", columnList = "path"))
 public class Notebook {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String name;
 
+    // 루트부터 자신까지의 ID 경로 (예: "/1/5/12/"). 경로 접두사로 하위 트리 전체를 한 번에 조회합니다.
+    private String path;
+
+    // 루트 노트북은 0
+    private Integer depth;
+
     @ManyToOne
     private Notebook parent;
 
@@ -0,0 +1,36 @@
+package com.example.personal.project.notebook;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노트북 내보내기/가져오기 파일(JSON Lines)의 한 줄입니다.
+ * 노트북 줄이 경로 순서(부모가 먼저)로 모두 나온 뒤 노트 줄이 나옵니다.
+ *
+ * @param type       "notebook" 또는 "note"
+ * @param id         내보낸 시스템의 ID (가져올 때는 새 ID가 부여됩니다.)
+ * @param parentId   부모 노트북 ID (노트북 줄)
+ * @param notebookId 노트가 속한 노트북 ID (노트 줄)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NotebookArchiveLine(String type,
+                                  Long id,
+                                  Long parentId,
+                                  String name,
+                                  Long notebookId,
+                                  String title,
+                                  String content,
+                                  LocalDateTime createDate) {
+
+    public static final String NOTEBOOK = "notebook";
+    public static final String NOTE = "note";
+
+    public static NotebookArchiveLine notebook(Long id, Long parentId, String name) {
+        return new NotebookArchiveLine(NOTEBOOK, id, parentId, name, null, null, null, null);
+    }
+
+    public static NotebookArchiveLine note(Long id, Long notebookId, String title, String content, LocalDateTime createDate) {
+        return new NotebookArchiveLine(NOTE, id, null, null, notebookId, title, content, createDate);
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.personal.project.notebook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 노트북 트리와 노트를 JSON Lines로 내보내고 가져옵니다.
+ * <p>
+ * 내보내기는 fetch size를 지정한 JdbcTemplate으로 결과를 앞으로만 읽으면서 한 줄씩 쓰고,
+ * 노트북과 노트를 하나의 읽기 전용 REPEATABLE READ 트랜잭션에서 읽어 같은 시점의 트리를 내보냅니다.
+ * 가져오기는 한 줄씩 읽어 노트를 배치 INSERT 하므로 노트 수와 관계없이 메모리 사용량이 일정합니다.
+ * (메모리에 남는 것은 노트북 ID 대응표뿐입니다.)
+ */
+@Slf4j
+@Service
+public class NotebookArchiveService {
+
+    private static final int BATCH_SIZE = 1000; // 한 번에 INSERT 할 노트 수
+    private static final int PROGRESS_INTERVAL = 10_000; // 진행 상황을 기록할 노트 수 간격
+
+    private static final String EXPORT_NOTEBOOKS = "select id, parent_id, name from notebook "
+            + "where path like ? order by path";
+    private static final String EXPORT_NOTES = "select n.id, n.notebook_id, n.title, n.content, n.create_date from note n "
+            + "join notebook b on b.id = n.notebook_id where b.path like ? order by n.id";
+    private static final String INSERT_NOTEBOOK = "insert into notebook (name, parent_id, path, depth) values (?, ?, ?, ?)";
+    private static final String UPDATE_NOTEBOOK_PATH = "update notebook set path = ? where id = ?";
+    private static final String INSERT_NOTE = "insert into note (title, content, create_date, notebook_id) values (?, ?, ?, ?)";
+
+    private final NotebookRepository notebookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate exportTransactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotebookArchiveService(NotebookRepository notebookRepository,
+                                  DataSource dataSource,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${notebook.export.fetch-size:1000}") int fetchSize) {
+
+        this.notebookRepository = notebookRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // 스트리밍 설정은 내보내기 쿼리에만 적용합니다. (MySQL은 Integer.MIN_VALUE이면 한 행씩 스트리밍합니다.)
+        // 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 쿼리마다 결과를 끝까지 읽은 뒤 다음 쿼리를 실행합니다.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = transactionTemplate;
+        // 노트북 쿼리와 노트 쿼리 사이에 바뀐 내용이 섞이지 않도록 같은 스냅샷에서 읽습니다.
+        this.exportTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.exportTransactionTemplate.setReadOnly(true);
+        this.exportTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 노트북 트리를 JSON Lines로 씁니다.
+     *
+     * @param notebookId 내보낼 트리의 루트 (null이면 전체)
+     * @param out        출력 스트림
+     */
+    public void export(Long notebookId, OutputStream out) {
+        this.exportTransactionTemplate.executeWithoutResult(status -> exportTree(notebookId, out));
+    }
+
+    private void exportTree(Long notebookId, OutputStream out) {
+        String prefix = notebookId == null ? "/" : notebookRepository.findById(notebookId)
+                .orElseThrow(() -> new NoSuchElementException("Notebook not found"))
+                .getPath();
+
+        long[] notebooks = {0};
+        this.streamingJdbcTemplate.query(EXPORT_NOTEBOOKS, rs -> {
+            Long parentId = rs.getObject("parent_id", Long.class);
+            // 하위 트리만 내보내는 경우 루트의 부모는 내보내지 않으므로 연결을 끊습니다.
+            if (notebooks[0] == 0 && notebookId != null) {
+                parentId = null;
+            }
+            writeLine(out, NotebookArchiveLine.notebook(rs.getLong("id"), parentId, rs.getString("name")));
+            notebooks[0]++;
+        }, prefix + "%");
+
+        long[] notes = {0};
+        this.streamingJdbcTemplate.query(EXPORT_NOTES, rs -> {
+            Timestamp createDate = rs.getTimestamp("create_date");
+            writeLine(out, NotebookArchiveLine.note(rs.getLong("id"), rs.getLong("notebook_id"), rs.getString("title"),
+                    rs.getString("content"), createDate == null ? null : createDate.toLocalDateTime()));
+            if (++notes[0] % PROGRESS_INTERVAL == 0) {
+                log.info("노트 내보내기 진행: {}건", notes[0]);
+            }
+        }, prefix + "%");
+
+        flush(out);
+        log.info("노트북 내보내기 완료: 노트북 {}개, 노트 {}건", notebooks[0], notes[0]);
+    }
+
+    /**
+     * JSON Lines를 읽어 노트북과 노트를 새로 만듭니다.
+     *
+     * @param in       입력 스트림
+     * @param parentId 가져온 최상위 노트북을 넣을 노트북 (null이면 최상위)
+     * @return 가져온 노트 수
+     */
+    public long importArchive(InputStream in, Long parentId) throws IOException {
+        NotebookRef target = null;
+        if (parentId != null) {
+            Notebook parent = notebookRepository.findById(parentId)
+                    .orElseThrow(() -> new NoSuchElementException("Notebook not found"));
+            target = new NotebookRef(parent.getId(), parent.getPath(), parent.getDepth());
+        }
+
+        Map<Long, NotebookRef> notebooks = new HashMap<>(); // 파일의 노트북 ID -> 새 노트북
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long notes = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                NotebookArchiveLine record = this.objectMapper.readValue(line, NotebookArchiveLine.class);
+                if (NotebookArchiveLine.NOTEBOOK.equals(record.type())) {
+                    NotebookRef parent = record.parentId() == null ? target : notebooks.getOrDefault(record.parentId(), target);
+                    notebooks.put(record.id(), insertNotebook(record.name(), parent));
+                } else if (NotebookArchiveLine.NOTE.equals(record.type())) {
+                    NotebookRef notebook = notebooks.get(record.notebookId());
+                    if (notebook == null) {
+                        throw new IllegalArgumentException("노트북보다 노트가 먼저 나왔습니다: " + record.notebookId());
+                    }
+                    batch.add(new Object[]{record.title(), record.content(),
+                            record.createDate() == null ? LocalDateTime.now() : record.createDate(), notebook.id()});
+                    if (batch.size() == BATCH_SIZE) {
+                        notes += flushNotes(batch);
+                        if (notes % PROGRESS_INTERVAL == 0) {
+                            log.info("노트 가져오기 진행: {}건", notes);
+                        }
+                    }
+                }
+            }
+        }
+        notes += flushNotes(batch);
+        log.info("노트북 가져오기 완료: 노트북 {}개, 노트 {}건", notebooks.size(), notes);
+        return notes;
+    }
+
+    private NotebookRef insertNotebook(String name, NotebookRef parent) {
+        return this.transactionTemplate.execute(status -> {
+            int depth = parent == null ? 0 : parent.depth() + 1;
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            this.jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_NOTEBOOK, Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, name);
+                if (parent == null) {
+                    ps.setNull(2, Types.BIGINT);
+                } else {
+                    ps.setLong(2, parent.id());
+                }
+                ps.setString(3, null);
+                ps.setInt(4, depth);
+                return ps;
+            }, keyHolder);
+
+            long id = keyHolder.getKey().longValue();
+            String path = (parent == null ? "/" : parent.path()) + id + "/";
+            this.jdbcTemplate.update(UPDATE_NOTEBOOK_PATH, path, id);
+            return new NotebookRef(id, path, depth);
+        });
+    }
+
+    private int flushNotes(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.batchUpdate(INSERT_NOTE, batch));
+        batch.clear();
+        return size;
+    }
+
+    private void writeLine(OutputStream out, NotebookArchiveLine line) {
+        try {
+            out.write(this.objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record NotebookRef(long id, String path, int depth) {
+    }
+}
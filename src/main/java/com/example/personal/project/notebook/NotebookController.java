@@ -1,48 +1,56 @@
 package com.example.personal.project.notebook;
 
 import com.example.personal.project.note.Note;
-import com.example.personal.project.note.NoteService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 @Controller
 @RequiredArgsConstructor
 public class NotebookController {
     private final NotebookRepository notebookRepository;
-    private final NoteService noteService;
     private final  NotebookService notebookService;
+    private final NotebookArchiveService notebookArchiveService;
+
+    @Value("${notebook.import.max-size:1GB}")
+    private DataSize importMaxSize;
 
     @PostMapping("/books/write")
     public String write() {
-        Notebook notebook = new Notebook();
-        notebook.setName("새노트북");
-
-        Note note = noteService.saveDefault();
-        notebook.addNote(note);
-
-        notebookRepository.save(notebook);
+        notebookService.create(null, "새노트북");
         return "redirect:/";
 
     }
     @PostMapping("/groups/{notebookId}/books/write")
     public String groupWrite(@PathVariable("notebookId") Long notebookId) {
-        Notebook parent = notebookRepository.findById(notebookId).orElseThrow();
-
-        Notebook child = new Notebook();
-        child.setName("새노트북");
-
-        Note note = noteService.saveDefault();
-        child.addNote(note);
-        notebookRepository.save(child);
-
-        parent.addChild(child);
-        notebookRepository.save(parent);
+        notebookService.create(notebookId, "새노트북");
         return "redirect:/";
     }
+
+    // 노트북을 다른 노트북 아래(targetId가 없으면 최상위)로 옮깁니다.
+    @PostMapping("/books/{id}/move")
+    public String move(@PathVariable("id") Long id, @RequestParam(value = "targetId", required = false) Long targetId) {
+        notebookService.move(id, targetId);
+        return "redirect:/books/{id}";
+    }
+
     @GetMapping("/books/{id}")
     public String detail(@PathVariable("id") Long id) {
         Notebook notebook = notebookRepository.findById(id).orElseThrow();
@@ -61,4 +69,38 @@ public class NotebookController {
         notebookService.updateNotebookTitle(id, title);
         return "redirect:/books/{id}";
     }
-}
\ No newline at end of file
+
+    // 노트북 트리를 JSON Lines로 내려받습니다. (id가 없으면 전체)
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping({"/books/export", "/books/{id}/export"})
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable(value = "id", required = false) Long id) {
+        StreamingResponseBody body = out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+            notebookArchiveService.export(id, buffered);
+            buffered.flush();
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"notebooks.jsonl\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 요청 본문의 JSON Lines를 읽어 노트북과 노트를 만듭니다. (parentId가 있으면 그 노트북 아래에 만듭니다.)
+    // 본문을 multipart 임시 파일에 저장하지 않고 바로 읽으므로, 큰 파일 제한(notebook.import.max-size)은 이 경로에만 적용됩니다.
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping(value = "/books/import", consumes = "application/x-ndjson")
+    public String importArchive(HttpServletRequest request,
+                                @RequestParam(value = "parentId", required = false) Long parentId) throws IOException {
+        long length = request.getContentLengthLong();
+        if (length < 0) {
+            throw new ResponseStatusException(HttpStatus.LENGTH_REQUIRED, "Content-Length가 필요합니다.");
+        }
+        if (length > importMaxSize.toBytes()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "가져오기 파일이 너무 큽니다.");
+        }
+        try (InputStream in = request.getInputStream()) {
+            notebookArchiveService.importArchive(in, parentId);
+        }
+        return "redirect:/";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.personal.project.notebook;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 화면에 표시할 노트북 트리의 노드입니다. 엔티티의 지연 로딩 컬렉션 대신 메모리에서 조립한 자식 목록을 가집니다.
+ */
+@Getter
+public class NotebookNode {
+    private final Long id;
+    private final String name;
+    private final String path;
+    private final int depth;
+    private final List<NotebookNode> children = new ArrayList<>();
+
+    public NotebookNode(NotebookTreeRow row) {
+        this.id = row.getId();
+        this.name = row.getName();
+        this.path = row.getPath();
+        this.depth = row.getDepth();
+    }
+
+    // 경로에서 부모 노트북의 ID를 구합니다. (루트는 null)
+    public Long getParentId() {
+        String[] ids = this.path.substring(1).split("/");
+        return ids.length < 2 ? null : Long.valueOf(ids[ids.length - 2]);
+    }
+}
@@ -2,6 +2,40 @@ package com.example.personal.project.notebook;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface NotebookRepository extends JpaRepository<Notebook, Long>{
+
+    // 전체 트리 (경로 순서이므로 부모가 항상 자식보다 먼저 나옵니다.)
+    @Query("select n.id as id, n.name as name, n.path as path, n.depth as depth from Notebook n "
+            + "where n.path is not null order by n.path")
+    List<NotebookTreeRow> findTree();
+
+    // 경로 접두사로 하위 트리 조회 (자신 포함)
+    @Query("select n.id as id, n.name as name, n.path as path, n.depth as depth from Notebook n "
+            + "where n.path like concat(:path, '%') order by n.path")
+    List<NotebookTreeRow> findSubtree(@Param("path") String path);
+
+    // 하위 트리 전체의 경로와 깊이를 한 번에 바꿉니다. (노트북 이동)
+    @Modifying(clearAutomatically = true)
+    @Query("update Notebook n set n.path = concat(:newPath, substring(n.path, length(:oldPath) + 1)), "
+            + "n.depth = n.depth + :depthDelta where n.path like concat(:oldPath, '%')")
+    int movePaths(@Param("oldPath") String oldPath,
+                  @Param("newPath") String newPath,
+                  @Param("depthDelta") int depthDelta);
+
+    List<Notebook> findByPathIsNull();
+
+    @Query("select max(n.depth) from Notebook n where n.path like concat(:path, '%')")
+    Integer findMaxDepth(@Param("path") String path);
+
+    // 같은 깊이의 노트북을 한 번에 삭제합니다. (자식을 참조하는 외래 키 때문에 깊은 곳부터 호출합니다.)
+    @Modifying
+    @Query("delete from Notebook n where n.path like concat(:path, '%') and n.depth = :depth")
+    int deleteByPathPrefixAndDepth(@Param("path") String path,
+                                   @Param("depth") int depth);
 }
@@ -1,34 +1,169 @@
 package com.example.personal.project.notebook;
 
 import com.example.personal.project.note.NoteRepository;
+import com.example.personal.project.note.NoteRevisionRepository;
+import com.example.personal.project.note.NoteService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
 public class NotebookService {
+    private static final int DELETE_CHUNK_SIZE = 1000; // 한 트랜잭션에서 삭제할 노트 수
+
     private final NotebookRepository notebookRepository;
     private final NoteRepository noteRepository;
+    private final NoteRevisionRepository noteRevisionRepository;
+    private final NoteService noteService;
+    private final TransactionTemplate transactionTemplate;
 
+    // 경로가 없는 기존 노트북에 부모 관계를 따라 경로와 깊이를 채웁니다. (처음 한 번만 실행됩니다.)
+    @EventListener(ApplicationReadyEvent.class)
     @Transactional
-    public void deleteNotebook(Long notebookId) {
+    public void backfillPaths() {
+        List<Notebook> missing = notebookRepository.findByPathIsNull();
+        for (Notebook notebook : missing) {
+            assignPath(notebook);
+        }
+        notebookRepository.saveAll(missing);
+    }
+
+    private void assignPath(Notebook notebook) {
+        if (notebook.getPath() != null) {
+            return;
+        }
+        Notebook parent = notebook.getParent();
+        if (parent == null) {
+            notebook.setPath("/" + notebook.getId() + "/");
+            notebook.setDepth(0);
+        } else {
+            assignPath(parent);
+            notebook.setPath(parent.getPath() + notebook.getId() + "/");
+            notebook.setDepth(parent.getDepth() + 1);
+        }
+    }
+
+    // 노트북을 만들고 기본 노트를 하나 추가합니다. (parentId가 null이면 루트 노트북)
+    @Transactional
+    public Notebook create(Long parentId, String name) {
+        Notebook notebook = new Notebook();
+        notebook.setName(name);
+        notebook.addNote(noteService.saveDefault());
+
+        Notebook parent = null;
+        if (parentId != null) {
+            parent = notebookRepository.findById(parentId)
+                    .orElseThrow(() -> new NoSuchElementException("Notebook not found"));
+            parent.addChild(notebook);
+        }
+        notebookRepository.save(notebook);
+
+        // ID가 정해진 뒤에 경로를 정합니다. (트랜잭션이 끝날 때 함께 반영됩니다.)
+        notebook.setPath((parent == null ? "/" : parent.getPath()) + notebook.getId() + "/");
+        notebook.setDepth(parent == null ? 0 : parent.getDepth() + 1);
+        return notebook;
+    }
+
+    // 노트북을 다른 노트북 아래로 옮깁니다. 하위 트리 전체의 경로는 한 번의 UPDATE로 바뀝니다.
+    @Transactional
+    public void move(Long notebookId, Long newParentId) {
         Notebook notebook = notebookRepository.findById(notebookId)
                 .orElseThrow(() -> new NoSuchElementException("Notebook not found"));
-
-        if (notebook.getNoteList() != null) {
-            notebook.getNoteList().forEach(noteRepository::delete);
+        Notebook newParent = null;
+        if (newParentId != null) {
+            newParent = notebookRepository.findById(newParentId)
+                    .orElseThrow(() -> new NoSuchElementException("Notebook not found"));
+            if (newParent.getPath().startsWith(notebook.getPath())) {
+                throw new IllegalArgumentException("자기 자신이나 하위 노트북으로 옮길 수 없습니다.");
+            }
         }
 
-        if (notebook.getChildren() != null) {
-            notebook.getChildren().forEach(child -> {
-                deleteNotebook(child.getId());
-            });
+        String oldPath = notebook.getPath();
+        String newPath = (newParent == null ? "/" : newParent.getPath()) + notebook.getId() + "/";
+        int depthDelta = (newParent == null ? 0 : newParent.getDepth() + 1) - notebook.getDepth();
+
+        // 부모의 children 컬렉션은 건드리지 않습니다. (orphanRemoval 때문에 노트북이 삭제될 수 있습니다.)
+        notebook.setParent(newParent);
+        notebookRepository.saveAndFlush(notebook);
+        notebookRepository.movePaths(oldPath, newPath, depthDelta);
+    }
+
+    // 전체 노트북 트리를 한 번의 쿼리로 읽어 메모리에서 조립합니다.
+    public List<NotebookNode> getTree() {
+        return assemble(notebookRepository.findTree());
+    }
+
+    // 주어진 노트북과 그 하위 트리를 한 번의 쿼리로 읽어 조립합니다.
+    public NotebookNode getSubtree(Long notebookId) {
+        Notebook notebook = notebookRepository.findById(notebookId)
+                .orElseThrow(() -> new NoSuchElementException("Notebook not found"));
+        List<NotebookNode> roots = assemble(notebookRepository.findSubtree(notebook.getPath()));
+        return roots.get(0);
+    }
+
+    // 경로 순서로 정렬된 행에서는 부모가 항상 먼저 나오므로 한 번 순회하면 트리가 완성됩니다.
+    private static List<NotebookNode> assemble(List<NotebookTreeRow> rows) {
+        Map<Long, NotebookNode> nodes = new HashMap<>();
+        List<NotebookNode> roots = new ArrayList<>();
+        for (NotebookTreeRow row : rows) {
+            NotebookNode node = new NotebookNode(row);
+            nodes.put(node.getId(), node);
+            NotebookNode parent = nodes.get(node.getParentId());
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.getChildren().add(node);
+            }
         }
 
-        notebookRepository.delete(notebook);
+        // 경로는 문자열 순서("/1/10/" < "/1/2/")이므로 형제 노트북은 만든 순서(ID)로 다시 정렬합니다.
+        Comparator<NotebookNode> byId = Comparator.comparing(NotebookNode::getId);
+        roots.sort(byId);
+        nodes.values().forEach(node -> node.getChildren().sort(byId));
+        return roots;
+    }
+
+    // 노트북과 하위 트리 전체를 삭제합니다. (하위 노트북과 노트도 함께 삭제됩니다.)
+    // 노트는 DELETE_CHUNK_SIZE 건씩 별도 트랜잭션으로 지워 잠금 시간을 제한하고,
+    // 마지막 트랜잭션에서 남은 노트와 노트북을 깊은 곳부터 깊이별 DELETE 한 번으로 지웁니다.
+    public void deleteNotebook(Long notebookId) {
+        Notebook notebook = notebookRepository.findById(notebookId)
+                .orElseThrow(() -> new NoSuchElementException("Notebook not found"));
+        String path = notebook.getPath();
+
+        List<Long> noteIds;
+        do {
+            noteIds = noteRepository.findIdsInTree(path, PageRequest.of(0, DELETE_CHUNK_SIZE));
+            if (!noteIds.isEmpty()) {
+                List<Long> chunk = noteIds;
+                transactionTemplate.executeWithoutResult(status -> {
+                    noteRevisionRepository.deleteByNoteIds(chunk);
+                    noteRepository.deleteByIds(chunk);
+                });
+            }
+        } while (noteIds.size() == DELETE_CHUNK_SIZE);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 나누어 지우는 동안 추가된 노트
+            noteRevisionRepository.deleteInTree(path);
+            noteRepository.deleteInTree(path);
+            Integer maxDepth = notebookRepository.findMaxDepth(path);
+            for (int depth = maxDepth == null ? -1 : maxDepth; depth >= notebook.getDepth(); depth--) {
+                notebookRepository.deleteByPathPrefixAndDepth(path, depth);
+            }
+        });
     }
 
     @Transactional
@@ -43,4 +178,4 @@ public class NotebookService {
         notebook.setName(newTitle);
         notebookRepository.save(notebook);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.example.personal.project.notebook;
+
+/**
+ * 노트북 트리를 만들 때 필요한 컬럼만 읽어오는 프로젝션입니다.
+ */
+public interface NotebookTreeRow {
+    Long getId();
+
+    String getName();
+
+    String getPath();
+
+    Integer getDepth();
+}
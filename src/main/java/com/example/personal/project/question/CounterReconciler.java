@@ -0,0 +1,47 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.answer.AnswerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문/답변의 답변 수, 댓글 수, 추천 수 카운터를 실제 행 수와 맞추는 작업입니다.
+ * 카운터는 쓰기 시점에 증감 쿼리로 갱신되므로 평소에는 차이가 없지만,
+ * 직접 수정된 데이터나 컬럼이 처음 추가된 기존 데이터를 바로잡기 위해 주기적으로 실행합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CounterReconciler {
+
+    private static final int CHUNK_SIZE = 1000; // 한 번의 UPDATE로 다시 계산할 ID 범위 (잠금 시간을 제한합니다.)
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+
+    @Value("${counter.reconcile.on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (this.reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${counter.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        int maxQuestionId = this.questionRepository.findMaxId();
+        for (int from = 1; from <= maxQuestionId; from += CHUNK_SIZE) {
+            this.questionRepository.reconcileCounters(from, from + CHUNK_SIZE - 1);
+        }
+
+        int maxAnswerId = this.answerRepository.findMaxId();
+        for (int from = 1; from <= maxAnswerId; from += CHUNK_SIZE) {
+            this.answerRepository.reconcileCounters(from, from + CHUNK_SIZE - 1);
+        }
+    }
+}
@@ -7,17 +7,34 @@ import com.example.personal.project.user.SiteUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicInsert;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @DynamicInsert
+@NamedEntityGraph(name = Question.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("author"),
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode(value = "commentList", subgraph = "comment")
+        },
+        subgraphs = @NamedSubgraph(name = "comment", attributeNodes = @NamedAttributeNode("author")))
+@Table(indexes = {
+        @Index(name = "idx_question_category_create_date", columnList = "category_id, create_date, id"),
+        @Index(name = "idx_question_author_create_date", columnList = "author_id, create_date")
+})
 public class Question {
+    // 상세 화면에서 함께 조회할 연관 관계 (작성자, 카테고리, 질문 댓글과 댓글 작성자)
+    public static final String DETAIL_GRAPH = "Question.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -34,18 +51,29 @@ public class Question {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "question", cascade = CascadeType.REMOVE)
     private List<Answer> answerList;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "question", cascade = CascadeType.REMOVE)
     private List<Comment> commentList;
 
-    @ManyToMany
-    Set<SiteUser> voter;
-
-    @Column(columnDefinition = "integer default 0", nullable = false)
+    // 조회수는 QuestionViewCounter가 모아서 반영하므로 엔티티 저장으로 덮어쓰지 않습니다.
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
     private int view;
 
+    // 아래 카운터는 엔티티 저장으로 덮어쓰지 않도록 updatable = false로 두고
+    // QuestionRepository의 증감 쿼리로만 변경합니다.
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int answerCount;
+
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int commentCount;
+
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int voteCount;
+
     private LocalDateTime createDate;
 
     private LocalDateTime modifyDate;
@@ -1,5 +1,7 @@
 package com.example.personal.project.question;
 
+import com.example.personal.project.KeysetCursor;
+import com.example.personal.project.VoteResult;
 import com.example.personal.project.answer.Answer;
 import com.example.personal.project.answer.AnswerForm;
 import com.example.personal.project.answer.AnswerService;
@@ -8,19 +10,21 @@ import com.example.personal.project.category.CategoryService;
 import com.example.personal.project.comment.CommentForm;
 import com.example.personal.project.user.SiteUser;
 import com.example.personal.project.user.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
 import java.security.Principal;
 
 @RequestMapping("/question")
@@ -32,17 +36,34 @@ public class QuestionController {
     private final UserService userService;
     private final CategoryService categoryService;
     private final AnswerService answerService;
+    private final QuestionVersions questionVersions;
 
     @RequestMapping("/list/{category}")
     public String list(Model model,
                        @RequestParam(value = "page", defaultValue = "0") int page,
+                       @RequestParam(value = "cursor", required = false) String cursor,
+                       @RequestParam(value = "dir", defaultValue = KeysetCursor.NEXT) String dir,
                        @PathVariable("category") String category,
-                       @RequestParam(value = "kw", defaultValue = "") String kw) {
+                       @RequestParam(value = "kw", defaultValue = "") String kw,
+                       HttpServletRequest request,
+                       HttpServletResponse response,
+                       WebRequest webRequest) {
 
         Category category1 = this.categoryService.getCategoryByTitle(category);
-        Page<Question> paging = this.questionService.getList(page, kw, category1);
 
-        model.addAttribute("paging", paging);
+        // 목록이 바뀌지 않았으면 조회와 렌더링 없이 304를 응답합니다.
+        if (notModified(this.questionVersions.listEtag(category1.getId(), request), response, webRequest)) {
+            return null;
+        }
+
+        // cursor 파라미터가 있으면 (빈 값이면 첫 페이지) 키셋 페이징으로 조회합니다.
+        if (cursor != null && kw.isBlank()) {
+            model.addAttribute("slice", this.questionService.getSlice(category1, cursor, dir));
+        } else {
+            Page<Question> paging = this.questionService.getList(page, kw, category1);
+            model.addAttribute("paging", paging);
+        }
+
         model.addAttribute("kw", kw);
         model.addAttribute("category", category);
 
@@ -53,26 +74,50 @@ public class QuestionController {
     public String detail(Model model,
                          @RequestParam(value = "so", defaultValue = "recent") String so,
                          @RequestParam(value = "page", defaultValue = "0") int page,
+                         @RequestParam(value = "cursor", required = false) String cursor,
+                         @RequestParam(value = "dir", defaultValue = KeysetCursor.NEXT) String dir,
                          @PathVariable("id") Integer id,
                          AnswerForm answerForm,
                          CommentForm commentForm,
-                         Principal principal) {
+                         Principal principal,
+                         HttpServletRequest request,
+                         HttpServletResponse response,
+                         WebRequest webRequest) {
+
+        // 질문이 바뀌지 않았으면 조회와 렌더링 없이 304를 응답합니다. (이 경우 조회수는 늘어나지 않습니다.)
+        if (notModified(this.questionVersions.detailEtag(id, request), response, webRequest)) {
+            return null;
+        }
 
-        Question question = this.questionService.getQuestion(id);
+        Question question = this.questionService.getQuestionDetail(id);
 
         if (principal != null && !question.getAuthor().getUsername().equals(principal.getName())) {
             this.questionService.incrementView(question);
         }
 
-        Page<Answer> paging = this.answerService.getList(page, question, so);
+        // cursor 파라미터가 있으면 키셋 페이징으로 답변을 조회합니다.
+        if (cursor != null) {
+            model.addAttribute("slice", this.answerService.getSlice(question, cursor, dir, so));
+        } else {
+            Page<Answer> paging = this.answerService.getList(page, question, so);
+            model.addAttribute("paging", paging);
+        }
 
-        model.addAttribute("paging", paging);
         model.addAttribute("question", question);
         model.addAttribute("so", so);
 
         return "question_detail";
     }
 
+    // 브라우저가 매번 ETag로 다시 확인하도록 하고, ETag가 같으면 true를 반환합니다.
+    private static boolean notModified(String etag,
+                                       HttpServletResponse response,
+                                       WebRequest webRequest) {
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return webRequest.checkNotModified(etag);
+    }
+
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/create/{category}")
     public String questionCreate(Model model,
@@ -158,33 +203,24 @@ public class QuestionController {
     }
 
     @PreAuthorize("isAuthenticated()") // 인증된 사용자만 접근할 수 있도록 설정합니다.
-    @GetMapping("/vote/{id}")
-    public String questionVote(
+    @PostMapping("/vote/{id}")
+    @ResponseBody // 상세 화면을 다시 그리지 않도록 추천 결과만 JSON으로 응답합니다.
+    public VoteResult questionVote(
             // 현재 사용자의 정보를 가진 Principal 객체입니다.
             Principal principal,
             // URL 경로에서 추출한 질문의 ID를 받습니다.
-            @PathVariable("id") Integer id,
-            // HTTP 응답 객체입니다.
-            HttpServletResponse response) throws IOException {
+            @PathVariable("id") Integer id) {
 
         // 주어진 ID에 해당하는 질문을 데이터베이스에서 조회합니다.
         Question question = this.questionService.getQuestion(id);
 
-        // 현재 로그인한 사용자가 질문의 작성자가 아닌 경우에만 실행합니다.
-        if (!question.getAuthor().getUsername().equals(principal.getName())) {
-            // 현재 로그인한 사용자의 정보를 가져옵니다.
-            SiteUser siteUser = this.userService.getUser(principal.getName());
-            // 질문에 대한 투표를 처리합니다.
-            this.questionService.vote(question, siteUser);
-        } else {
-            /**
-             * alert 창 후 이동하지 않는 문제가 있음
-             */
-            // 질문의 작성자가 투표할 수 없음을 알리는 alert 창을 띄운 후, 질문의 상세 페이지로 리다이렉트합니다.
-            // ScriptUtils.alertAndMovePage(response, "작성자는 추천이 불가합니다.", String.format("redirect:/question/detail/%s", id));
+        // 질문의 작성자는 추천할 수 없습니다.
+        if (question.getAuthor().getUsername().equals(principal.getName())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "작성자는 추천이 불가합니다.");
         }
 
-        // 질문의 상세 페이지로 리다이렉트합니다.
-        return String.format("redirect:/question/detail/%s", id);
+        // 현재 로그인한 사용자의 정보를 가져와 질문에 대한 투표를 처리합니다.
+        SiteUser siteUser = this.userService.getUser(principal.getName());
+        return this.questionService.vote(question, siteUser);
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.personal.project.question;
+
+/**
+ * 질문의 답변/댓글/추천 수 증감. 바뀐 질문만 2차 캐시에서 제거합니다.
+ */
+public interface QuestionCounterRepository {
+
+    int addAnswerCount(Integer id, int delta);
+
+    int addCommentCount(Integer id, int delta);
+
+    int addVoteCount(Integer id, int delta);
+}
@@ -0,0 +1,50 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.CacheEviction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+// QuestionRepository에 포함되는 구현입니다. (스프링 데이터가 이름으로 찾습니다.)
+class QuestionCounterRepositoryImpl implements QuestionCounterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    @Override
+    public int addAnswerCount(Integer id,
+                              int delta) {
+
+        return add("answer_count", id, delta);
+    }
+
+    @Transactional
+    @Override
+    public int addCommentCount(Integer id,
+                               int delta) {
+
+        return add("comment_count", id, delta);
+    }
+
+    @Transactional
+    @Override
+    public int addVoteCount(Integer id,
+                            int delta) {
+
+        return add("vote_count", id, delta);
+    }
+
+    private int add(String column,
+                    Integer id,
+                    int delta) {
+
+        int updated = CacheEviction.counterUpdate(this.entityManager,
+                        "update question set " + column + " = " + column + " + :delta where id = :id")
+                .setParameter("delta", delta)
+                .setParameter("id", id)
+                .executeUpdate();
+        CacheEviction.evict(this.entityManager, Question.class, id);
+        return updated;
+    }
+}
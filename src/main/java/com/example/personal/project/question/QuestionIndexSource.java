@@ -0,0 +1,16 @@
+package com.example.personal.project.question;
+
+/**
+ * 검색 색인을 만들 때 필요한 질문 컬럼만 읽어오는 프로젝션입니다.
+ */
+public interface QuestionIndexSource {
+    Integer getId();
+
+    Integer getCategoryId();
+
+    String getSubject();
+
+    String getContent();
+
+    String getUsername();
+}
@@ -1,20 +1,33 @@
 package com.example.personal.project.question;
 
+import com.example.personal.project.category.Category;
 import com.example.personal.project.user.SiteUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface QuestionRepository extends JpaRepository<Question, Integer> {
+public interface QuestionRepository extends JpaRepository<Question, Integer>, QuestionCounterRepository {
     Question findBySubject(String subject);
 
-    Optional<List<Question>> findAllByAuthor(SiteUser author);
+    // 작성자의 질문 목록 (count 쿼리 없이 페이지 단위로 조회합니다.)
+    @Transactional(readOnly = true)
+    Slice<Question> findByAuthor(SiteUser author, Pageable pageable);
+
 
     Question findBySubjectAndContent(String subject, String content);
 
@@ -22,8 +35,78 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
 
     Page<Question> findAll(Pageable pageable);
 
+    // 목록 쿼리는 2차 캐시의 질문을 쓰지 않고 조회한 행의 값을 사용합니다.
+    // (조회수는 반영할 때 캐시를 비우지 않으므로 캐시된 질문의 조회수는 이전 값일 수 있습니다.)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
     Page<Question> findAll(Specification<Question> spec, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    Page<Question> findByCategory(Category category, Pageable pageable);
+
+    // 검색 결과의 질문 조회
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    List<Question> findAllById(Iterable<Integer> ids);
+
+    // 상세 화면용 조회 (작성자, 카테고리, 질문 댓글과 댓글 작성자를 한 번에 조회합니다.)
+    @EntityGraph(Question.DETAIL_GRAPH)
+    @Query("select q from Question q where q.id = :id")
+    Optional<Question> findDetailById(@Param("id") Integer id);
+
+    long countByCategory(Category category);
+
+    // 키셋 페이징의 첫 페이지 (count 쿼리 없이 조회합니다.)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    List<Question> findByCategoryOrderByCreateDateDescIdDesc(Category category, Pageable pageable);
+
+    // 커서보다 오래된 질문을 최신순으로 조회합니다.
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query("select q from Question q "
+            + "where q.category = :category "
+            + "and (q.createDate < :createDate or (q.createDate = :createDate and q.id < :id)) "
+            + "order by q.createDate desc, q.id desc")
+    List<Question> findAfterCursor(@Param("category") Category category,
+                                   @Param("createDate") LocalDateTime createDate,
+                                   @Param("id") Integer id,
+                                   Pageable pageable);
+
+    // 커서보다 최근 질문을 오래된 순으로 조회합니다. (호출하는 쪽에서 역순으로 뒤집습니다.)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query("select q from Question q "
+            + "where q.category = :category "
+            + "and (q.createDate > :createDate or (q.createDate = :createDate and q.id > :id)) "
+            + "order by q.createDate asc, q.id asc")
+    List<Question> findBeforeCursor(@Param("category") Category category,
+                                    @Param("createDate") LocalDateTime createDate,
+                                    @Param("id") Integer id,
+                                    Pageable pageable);
+
+    @Query("select q.id as id, c.id as categoryId, q.subject as subject, q.content as content, u.username as username "
+            + "from Question q "
+            + "left outer join q.category c "
+            + "left outer join q.author u "
+            + "where q.id > :lastId "
+            + "order by q.id")
+    List<QuestionIndexSource> findIndexSources(@Param("lastId") int lastId,
+                                               Pageable pageable);
+
+    @Query("select q.voteCount from Question q where q.id = :id")
+    int findVoteCountById(@Param("id") Integer id);
+
+    @Query("select coalesce(max(q.id), 0) from Question q")
+    int findMaxId();
+
+    // 주어진 ID 범위의 질문 카운터를 실제 행 수로 다시 계산합니다.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question")) // 이 테이블의 캐시 영역만 비웁니다.
+    @Query(value = "update question q set "
+            + "answer_count = (select count(*) from answer a where a.question_id = q.id), "
+            + "comment_count = (select count(*) from comment c where c.question_id = q.id), "
+            + "vote_count = (select count(*) from question_voter v where v.question_id = q.id) "
+            + "where q.id between :fromId and :toId", nativeQuery = true)
+    int reconcileCounters(@Param("fromId") int fromId,
+                          @Param("toId") int toId);
+
     @Query("select "
             + "distinct q "
             + "from Question q "
@@ -0,0 +1,422 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.TransactionCallbacks;
+import com.example.personal.project.answer.Answer;
+import com.example.personal.project.answer.AnswerIndexSource;
+import com.example.personal.project.answer.AnswerRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문 검색을 위한 메모리 내 역색인입니다.
+ * 질문 제목, 내용, 작성자 이름과 답변 내용, 답변 작성자 이름을 카테고리별로 색인하고
+ * 질문/답변이 생성, 수정, 삭제될 때마다 해당 질문의 색인만 갱신합니다.
+ * <p>
+ * 트랜잭션 안에서 호출하면 커밋된 뒤에 색인을 갱신합니다. (롤백된 변경이 검색 결과에 남지 않도록 합니다.)
+ */
+@Component
+public class QuestionSearchIndex implements SmartInitializingSingleton {
+
+    private static final int SUBJECT_WEIGHT = 4; // 제목 토큰 가중치
+    private static final int USERNAME_WEIGHT = 2; // 작성자 이름 토큰 가중치
+    private static final int CONTENT_WEIGHT = 1; // 본문 토큰 가중치
+    private static final int REBUILD_BATCH_SIZE = 500; // 재색인 시 한 번에 읽어오는 행 수
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final boolean rebuildOnStartup;
+
+    // 카테고리 ID -> 토큰 -> (질문 ID -> 가중치 합계)
+    private Map<Integer, Map<String, Map<Integer, Integer>>> postings = new HashMap<>();
+    // 질문 ID -> 색인 문서
+    private Map<Integer, IndexedQuestion> documents = new HashMap<>();
+    // 카테고리 ID -> 색인된 질문 수
+    private Map<Integer, Integer> categorySizes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public QuestionSearchIndex(QuestionRepository questionRepository,
+                               AnswerRepository answerRepository,
+                               @Value("${question.search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * 웹 서버가 요청을 받기 전에 데이터베이스로부터 색인을 만듭니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (this.rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 색인이 데이터베이스 전체를 반영하고 있는지 여부입니다.
+     * 재색인을 하지 않은 경우에는 기존 Specification 검색을 사용해야 합니다.
+     */
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * 데이터베이스의 질문과 답변을 id 순으로 나누어 읽어 색인을 새로 만듭니다.
+     */
+    public void rebuild() {
+        Map<Integer, IndexedQuestion> rebuilt = new HashMap<>();
+
+        int lastQuestionId = 0;
+        List<QuestionIndexSource> questions;
+        do {
+            questions = this.questionRepository.findIndexSources(lastQuestionId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (QuestionIndexSource source : questions) {
+                IndexedQuestion document = new IndexedQuestion(source.getCategoryId());
+                document.questionTerms = questionTerms(source.getSubject(), source.getContent(), source.getUsername());
+                rebuilt.put(source.getId(), document);
+                lastQuestionId = source.getId();
+            }
+        } while (questions.size() == REBUILD_BATCH_SIZE);
+
+        int lastAnswerId = 0;
+        List<AnswerIndexSource> answers;
+        do {
+            answers = this.answerRepository.findIndexSources(lastAnswerId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (AnswerIndexSource source : answers) {
+                IndexedQuestion document = rebuilt.get(source.getQuestionId());
+                if (document != null) {
+                    document.answerTerms.put(source.getId(), answerTerms(source.getContent(), source.getUsername()));
+                }
+                lastAnswerId = source.getId();
+            }
+        } while (answers.size() == REBUILD_BATCH_SIZE);
+
+        Map<Integer, Map<String, Map<Integer, Integer>>> rebuiltPostings = new HashMap<>();
+        Map<Integer, Integer> rebuiltSizes = new HashMap<>();
+        rebuilt.forEach((questionId, document) -> {
+            document.mergedTerms = document.merge();
+            addPostings(rebuiltPostings, questionId, document);
+            rebuiltSizes.merge(document.categoryId, 1, Integer::sum);
+        });
+
+        this.lock.writeLock().lock();
+        try {
+            this.documents = rebuilt;
+            this.postings = rebuiltPostings;
+            this.categorySizes = rebuiltSizes;
+            this.ready = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // 질문을 새로 색인하거나 제목/내용이 바뀐 질문을 다시 색인합니다.
+    public void indexQuestion(Question question) {
+        Integer questionId = question.getId();
+        Integer categoryId = question.getCategory().getId();
+        Map<String, Integer> terms = questionTerms(question.getSubject(), question.getContent(),
+                question.getAuthor() != null ? question.getAuthor().getUsername() : null);
+
+        TransactionCallbacks.afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                IndexedQuestion document = this.documents.get(questionId);
+                if (document == null) {
+                    document = new IndexedQuestion(categoryId);
+                    this.documents.put(questionId, document);
+                    this.categorySizes.merge(document.categoryId, 1, Integer::sum);
+                }
+                document.questionTerms = terms;
+                reindex(questionId, document);
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 삭제된 질문을 색인에서 제거합니다.
+    public void removeQuestion(Integer questionId) {
+        TransactionCallbacks.afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                IndexedQuestion document = this.documents.remove(questionId);
+                if (document != null) {
+                    removePostings(this.postings, questionId, document);
+                    this.categorySizes.merge(document.categoryId, -1, Integer::sum);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 답변을 새로 색인하거나 내용이 바뀐 답변을 다시 색인합니다.
+    public void indexAnswer(Answer answer) {
+        Integer questionId = answer.getQuestion().getId();
+        Integer answerId = answer.getId();
+        Map<String, Integer> terms = answerTerms(answer.getContent(),
+                answer.getAuthor() != null ? answer.getAuthor().getUsername() : null);
+
+        TransactionCallbacks.afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                IndexedQuestion document = this.documents.get(questionId);
+                if (document != null) {
+                    document.answerTerms.put(answerId, terms);
+                    reindex(questionId, document);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 삭제된 답변을 색인에서 제거합니다.
+    public void removeAnswer(Answer answer) {
+        Integer questionId = answer.getQuestion().getId();
+        Integer answerId = answer.getId();
+
+        TransactionCallbacks.afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                IndexedQuestion document = this.documents.get(questionId);
+                if (document != null && document.answerTerms.remove(answerId) != null) {
+                    reindex(questionId, document);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 질문 ID를 점수 순으로 정렬하여 페이지 단위로 반환합니다.
+     * 점수가 같으면 최근에 등록된 질문(ID가 큰 질문)이 먼저 옵니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @param kw         검색어
+     * @param pageable   페이지 정보 (정렬 조건은 사용하지 않습니다.)
+     * @return 질문 ID 페이지
+     */
+    public Page<Integer> search(int categoryId,
+                                String kw,
+                                Pageable pageable) {
+
+        Set<String> queryTerms = queryTerms(kw);
+        if (queryTerms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Map.Entry<Integer, Double>> ranked;
+        this.lock.readLock().lock();
+        try {
+            Map<String, Map<Integer, Integer>> categoryPostings = this.postings.get(categoryId);
+            if (categoryPostings == null) {
+                return Page.empty(pageable);
+            }
+
+            List<Map<Integer, Integer>> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Integer, Integer> list = categoryPostings.get(term);
+                if (list == null) {
+                    return Page.empty(pageable);
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록부터 교집합을 구합니다.
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            double documentCount = Math.max(1, this.categorySizes.getOrDefault(categoryId, 0));
+            Map<Integer, Double> scores = new HashMap<>();
+            lists.get(0).forEach((questionId, weight) ->
+                    scores.put(questionId, weight * idf(documentCount, lists.get(0).size())));
+            for (int i = 1; i < lists.size() && !scores.isEmpty(); i++) {
+                Map<Integer, Integer> list = lists.get(i);
+                double termIdf = idf(documentCount, list.size());
+                scores.entrySet().removeIf(entry -> {
+                    Integer weight = list.get(entry.getKey());
+                    if (weight == null) {
+                        return true;
+                    }
+                    entry.setValue(entry.getValue() + weight * termIdf);
+                    return false;
+                });
+            }
+            ranked = new ArrayList<>(scores.entrySet());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        ranked.sort(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed()));
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Integer> ids = new ArrayList<>(to - from);
+        for (Map.Entry<Integer, Double> entry : ranked.subList(from, to)) {
+            ids.add(entry.getKey());
+        }
+        return new PageImpl<>(ids, pageable, ranked.size());
+    }
+
+    private void reindex(Integer questionId,
+                         IndexedQuestion document) {
+
+        removePostings(this.postings, questionId, document);
+        document.mergedTerms = document.merge();
+        addPostings(this.postings, questionId, document);
+    }
+
+    private static void addPostings(Map<Integer, Map<String, Map<Integer, Integer>>> postings,
+                                    Integer questionId,
+                                    IndexedQuestion document) {
+
+        Map<String, Map<Integer, Integer>> categoryPostings =
+                postings.computeIfAbsent(document.categoryId, k -> new HashMap<>());
+        document.mergedTerms.forEach((term, weight) ->
+                categoryPostings.computeIfAbsent(term, k -> new HashMap<>()).put(questionId, weight));
+    }
+
+    private static void removePostings(Map<Integer, Map<String, Map<Integer, Integer>>> postings,
+                                       Integer questionId,
+                                       IndexedQuestion document) {
+
+        Map<String, Map<Integer, Integer>> categoryPostings = postings.get(document.categoryId);
+        if (categoryPostings == null) {
+            return;
+        }
+        for (String term : document.mergedTerms.keySet()) {
+            Map<Integer, Integer> list = categoryPostings.get(term);
+            if (list != null) {
+                list.remove(questionId);
+                if (list.isEmpty()) {
+                    categoryPostings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static double idf(double documentCount,
+                              int documentFrequency) {
+
+        return Math.log(1 + documentCount / documentFrequency);
+    }
+
+    private static Map<String, Integer> questionTerms(String subject,
+                                                      String content,
+                                                      String username) {
+
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, subject, SUBJECT_WEIGHT);
+        addTerms(terms, content, CONTENT_WEIGHT);
+        addTerms(terms, username, USERNAME_WEIGHT);
+        return terms;
+    }
+
+    private static Map<String, Integer> answerTerms(String content,
+                                                    String username) {
+
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, content, CONTENT_WEIGHT);
+        addTerms(terms, username, USERNAME_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms,
+                                 String text,
+                                 int weight) {
+
+        tokenize(text).forEach((term, count) -> terms.merge(term, count * weight, Integer::sum));
+    }
+
+    /**
+     * 글자/숫자가 아닌 문자로 단어를 나눈 뒤 각 단어의 한 글자, 두 글자 조각을 토큰으로 만듭니다.
+     * 한글처럼 띄어쓰기만으로 단어를 나누기 어려운 본문에서도 부분 문자열 검색이 가능합니다.
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> tokens = new HashMap<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.merge(word.substring(i, i + 1), 1, Integer::sum);
+                if (i + 2 <= word.length()) {
+                    tokens.merge(word.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어는 두 글자 이상인 단어는 두 글자 조각만, 한 글자 단어는 그 글자만 토큰으로 사용합니다.
+     */
+    static Set<String> queryTerms(String kw) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(kw)) {
+            if (word.length() == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    // 소문자로 바꾼 뒤 글자/숫자가 아닌 문자를 기준으로 단어를 나눕니다.
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        List<String> words = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // 질문 하나에 대한 색인 문서입니다.
+    private static class IndexedQuestion {
+        private final Integer categoryId;
+        private Map<String, Integer> questionTerms = Collections.emptyMap();
+        private final Map<Integer, Map<String, Integer>> answerTerms = new HashMap<>();
+        private Map<String, Integer> mergedTerms = Collections.emptyMap();
+
+        private IndexedQuestion(Integer categoryId) {
+            this.categoryId = categoryId;
+        }
+
+        private Map<String, Integer> merge() {
+            Map<String, Integer> merged = new HashMap<>(this.questionTerms);
+            this.answerTerms.values().forEach(terms ->
+                    terms.forEach((term, weight) -> merged.merge(term, weight, Integer::sum)));
+            return merged;
+        }
+    }
+}
@@ -1,30 +1,53 @@
 package com.example.personal.project.question;
 
+import com.example.personal.project.CountCache;
+import com.example.personal.project.CursorSlice;
+import com.example.personal.project.KeysetCursor;
+import com.example.personal.project.VoteResult;
 import com.example.personal.project.answer.Answer;
+import com.example.personal.project.answer.AnswerVoteRepository;
 import com.example.personal.project.category.Category;
 import com.example.personal.project.error.DataNotFoundException;
 import com.example.personal.project.user.SiteUser;
 import jakarta.persistence.criteria.*;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor // 롬복이 제공하는 애너테이션으로 final이 붙은 속성을 포함하는 생성자를 자동으로 생성합니다.
 @Service // 스프링에게 해당 클래스가 비즈니스 로직을 담당하는 서비스 클래스임을 알려줍니다.
 public class QuestionService {
 
+    public static final int LIST_SIZE = 10; // 목록 한 페이지에 표시할 질문 수
+
     private final QuestionRepository questionRepository; // QuestionRepository 의존성을 주입받습니다.
+    private final QuestionVoteRepository questionVoteRepository; // 질문 추천 기록
+    private final AnswerVoteRepository answerVoteRepository; // 질문을 삭제할 때 답변 추천 기록도 삭제합니다.
+    private final QuestionSearchIndex questionSearchIndex; // 질문 검색 역색인
+    private final QuestionViewCounter questionViewCounter; // 조회수 쓰기 지연 카운터
+    private final QuestionVersions questionVersions; // 조건부 GET에 사용하는 화면 버전
+    private final MeterRegistry meterRegistry;
+    private final CountCache<Integer> categoryCounts = new CountCache<>(30_000); // 카테고리별 질문 수 (30초 캐시)
 
     // 질문 목록을 페이징하여 반환하는 메서드입니다.
+    // 읽기 전용 트랜잭션은 복제본 데이터베이스가 설정되어 있으면 복제본에서 실행됩니다.
+    @Timed(value = "question.list", histogram = true)
+    @Transactional(readOnly = true)
     public Page<Question> getList(int page,
                                   String kw,
                                   Category category) {
@@ -33,11 +56,72 @@ public class QuestionService {
         List<Sort.Order> sorts = new ArrayList<>();
         sorts.add(Sort.Order.desc("createDate"));
         // 페이징을 위한 페이지 요청 객체를 생성합니다.
-        Pageable pageable = PageRequest.of(page, 10, Sort.by(sorts));
+        Pageable pageable = PageRequest.of(page, LIST_SIZE, Sort.by(sorts));
+
+        // 검색어가 없으면 조인 없이 카테고리의 질문만 조회합니다.
+        if (kw == null || kw.isBlank()) {
+            return this.questionRepository.findByCategory(category, pageable);
+        }
+
+        // 역색인이 준비되어 있으면 색인에서 순위가 매겨진 질문 ID를 찾은 뒤 해당 질문만 조회합니다.
+        // 검색 시간은 question.search 타이머에 검색 방식(source)별로 기록합니다.
+        if (this.questionSearchIndex.isReady()) {
+            return this.meterRegistry.timer("question.search", "source", "index").record(() -> {
+                Page<Integer> ids = this.questionSearchIndex.search(category.getId(), kw, pageable);
+                return loadInOrder(ids);
+            });
+        }
+
         // 검색 조건을 생성합니다.
         Specification<Question> spec = search(kw, category.getId());
         // Specification을 사용하여 질문을 조회하고 페이징하여 반환합니다.
-        return this.questionRepository.findAll(spec, pageable);
+        return this.meterRegistry.timer("question.search", "source", "specification")
+                .record(() -> this.questionRepository.findAll(spec, pageable));
+    }
+
+    // (작성일시, ID) 커서를 기준으로 질문 목록을 조회하는 메서드입니다.
+    // OFFSET과 count(*) 없이 인덱스 범위만 읽으므로 몇 번째 페이지든 비용이 같습니다.
+    @Transactional(readOnly = true)
+    public CursorSlice<Question> getSlice(Category category,
+                                          String cursor,
+                                          String direction) {
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        boolean backward = position != null && KeysetCursor.PREV.equals(direction);
+        // 다음 페이지가 있는지 알기 위해 한 건을 더 조회합니다.
+        Pageable limit = PageRequest.of(0, LIST_SIZE + 1);
+
+        List<Question> rows;
+        if (position == null) {
+            rows = this.questionRepository.findByCategoryOrderByCreateDateDescIdDesc(category, limit);
+        } else if (backward) {
+            rows = this.questionRepository.findBeforeCursor(category, position.getCreateDate(), position.getId(), limit);
+        } else {
+            rows = this.questionRepository.findAfterCursor(category, position.getCreateDate(), position.getId(), limit);
+        }
+
+        // 전체 개수는 캐시된 값을 사용합니다.
+        long total = this.categoryCounts.get(category.getId(), () -> this.questionRepository.countByCategory(category));
+        return CursorSlice.of(rows, LIST_SIZE, backward, position != null,
+                q -> new KeysetCursor(q.getCreateDate(), q.getId()), total);
+    }
+
+    // 색인이 찾은 ID의 질문을 한 번에 조회하여 색인의 순서대로 반환합니다.
+    // 색인에는 있지만 조회되지 않은 질문(방금 삭제되었거나 복제본에 아직 없는 질문)은 빼고 전체 개수에서도 뺍니다.
+    private Page<Question> loadInOrder(Page<Integer> ids) {
+        Map<Integer, Question> loaded = new HashMap<>();
+        for (Question question : this.questionRepository.findAllById(ids.getContent())) {
+            loaded.put(question.getId(), question);
+        }
+        List<Question> questions = new ArrayList<>(ids.getNumberOfElements());
+        for (Integer id : ids) {
+            Question question = loaded.get(id);
+            if (question != null) {
+                questions.add(question);
+            }
+        }
+        long missing = ids.getNumberOfElements() - questions.size();
+        return new PageImpl<>(questions, ids.getPageable(), ids.getTotalElements() - missing);
     }
 
     // 질문의 ID를 기반으로 특정 질문을 조회하는 메서드입니다.
@@ -55,19 +139,13 @@ public class QuestionService {
         }
     }
 
-    // 특정 사용자가 작성한 모든 질문 목록을 조회하는 메서드입니다.
-    public List<Question> getQuestions(SiteUser user) {
+    // 상세 화면에 필요한 연관 관계를 함께 조회하는 메서드입니다.
+    @Transactional(readOnly = true)
+    public Question getQuestionDetail(Integer id) {
 
-        // 특정 사용자가 작성한 모든 질문 목록을 데이터베이스에서 조회합니다.
-        Optional<List<Question>> questions = this.questionRepository.findAllByAuthor(user);
-
-        // 조회된 질문 목록이 존재하는 경우에는 해당 목록을 반환합니다.
-        // 존재하지 않는 경우에는 DataNotFoundException을 발생시킵니다.
-        if (questions.isPresent()) {
-            return questions.get();
-        } else {
-            throw new DataNotFoundException("question Not Found");
-        }
+        // 작성자, 카테고리, 댓글과 댓글 작성자를 한 번의 쿼리로 조회합니다.
+        return this.questionRepository.findDetailById(id)
+                .orElseThrow(() -> new DataNotFoundException("question Not Found"));
     }
 
     // 새로운 질문을 생성하는 메서드입니다.
@@ -85,6 +163,10 @@ public class QuestionService {
         q.setAuthor(author);
         // 생성된 질문을 저장합니다.
         this.questionRepository.save(q);
+        // 검색 색인에 추가합니다.
+        this.questionSearchIndex.indexQuestion(q);
+        this.categoryCounts.evict(category.getId());
+        this.questionVersions.touch(q);
     }
 
     // 질문을 수정하는 메서드입니다.
@@ -98,22 +180,40 @@ public class QuestionService {
         question.setModifyDate(LocalDateTime.now());
         // 수정된 질문을 저장합니다.
         this.questionRepository.save(question);
+        // 검색 색인을 갱신합니다.
+        this.questionSearchIndex.indexQuestion(question);
+        this.questionVersions.touch(question);
     }
 
     // 질문을 삭제하는 메서드입니다.
+    @Transactional
     public void delete(Question question) {
 
+        // 질문과 답변의 추천 기록을 먼저 삭제합니다.
+        this.questionVoteRepository.deleteByQuestionId(question.getId());
+        this.answerVoteRepository.deleteByQuestionId(question.getId());
         // 주어진 질문을 삭제합니다.
         this.questionRepository.delete(question);
+        // 검색 색인에서 제거합니다.
+        this.questionSearchIndex.removeQuestion(question.getId());
+        this.categoryCounts.evict(question.getCategory().getId());
+        this.questionVersions.touch(question);
     }
 
     // 질문에 대한 투표를 처리하는 메서드입니다.
-    public void vote(Question question,
-                     SiteUser siteUser) {
-
-        // 주어진 사용자가 질문에 투표한 것으로 처리하고, 변경 사항을 저장합니다.
-        question.getVoter().add(siteUser);
-        this.questionRepository.save(question);
+    @Timed(value = "question.vote", histogram = true)
+    @Transactional
+    public VoteResult vote(Question question,
+                           SiteUser siteUser) {
+
+        // 추천 기록은 (질문, 사용자)가 기본 키이므로 처음 투표한 경우에만 추가되고, 그때만 추천 수를 1 증가시킵니다.
+        // 투표자 목록을 읽지 않으므로 추천 수와 관계없이 비용이 같습니다.
+        boolean voted = this.questionVoteRepository.insertIfAbsent(question.getId(), siteUser.getId()) == 1;
+        if (voted) {
+            this.questionRepository.addVoteCount(question.getId(), 1);
+            this.questionVersions.touch(question);
+        }
+        return new VoteResult(voted, this.questionRepository.findVoteCountById(question.getId()));
     }
 
     // 검색 조건을 생성하는 메서드입니다.
@@ -145,9 +245,9 @@ public class QuestionService {
     }
 
     // 질문의 조회수를 증가시키는 메서드입니다.
+    @Timed("question.view.increment")
     public void incrementView(Question question) {
-        // 질문의 조회수를 1 증가시키고, 변경 사항을 저장합니다.
-        question.setView(question.getView() + 1);
-        this.questionRepository.save(question);
+        // 증가분은 메모리에 모아 두었다가 QuestionViewCounter가 주기적으로 한 번에 반영합니다.
+        this.questionViewCounter.increment(question.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.TransactionCallbacks;
+import com.example.personal.project.datasource.ReadYourWrites;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 질문 상세/목록 화면의 버전 번호입니다. 화면에 보이는 내용이 바뀌는 쓰기 작업마다 번호를 올리고,
+ * 조건부 GET(ETag)은 데이터베이스를 조회하지 않고 이 번호만으로 304 응답 여부를 결정합니다.
+ * <p>
+ * 번호는 메모리에만 있으므로 서버 시작 시각(epoch)을 ETag에 포함하여 재시작하면 모든 ETag가 바뀌도록 합니다.
+ * 다른 서버의 쓰기는 이 번호에 반영되지 않으므로 서버를 한 대만 실행하는 경우에만 사용할 수 있습니다.
+ * (여러 대로 늘리면 번호를 Redis 같은 공유 저장소로 옮기거나 조건부 GET을 끄고 배포해야 합니다.)
+ * <p>
+ * 읽기 복제본을 사용하면 커밋 직후 복제본에서 읽은 이전 내용이 새 번호의 ETag로 응답될 수 있으므로,
+ * 복제 지연 시간(replica.read-your-writes.window)이 지난 뒤 번호를 한 번 더 올립니다.
+ */
+@Component
+public class QuestionVersions {
+
+    private final TaskScheduler taskScheduler;
+    private final Duration replicaLag; // 복제본이 없으면 0
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Integer, AtomicLong> details = new ConcurrentHashMap<>(); // 질문 ID -> 상세 화면 버전
+    private final Map<Integer, AtomicLong> lists = new ConcurrentHashMap<>(); // 카테고리 ID -> 목록 화면 버전
+
+    public QuestionVersions(TaskScheduler taskScheduler,
+                            ObjectProvider<ReadYourWrites> readYourWrites) {
+
+        this.taskScheduler = taskScheduler;
+        ReadYourWrites replica = readYourWrites.getIfAvailable();
+        this.replicaLag = replica != null ? replica.getWindow() : Duration.ZERO;
+    }
+
+    // 질문, 답변, 댓글, 추천이 바뀌면 상세 화면 버전을 올립니다.
+    public void touchDetail(Integer questionId) {
+        afterCommit(() -> this.details.computeIfAbsent(questionId, id -> new AtomicLong()).incrementAndGet());
+    }
+
+    // 목록에 보이는 값(제목, 답변 수, 추천 수 등)이 바뀌면 상세와 목록 버전을 함께 올립니다.
+    public void touch(Question question) {
+        touchDetail(question.getId());
+        touchList(question.getCategory().getId());
+    }
+
+    public void touchList(Integer categoryId) {
+        afterCommit(() -> this.lists.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet());
+    }
+
+    public String detailEtag(Integer questionId,
+                             HttpServletRequest request) {
+
+        return etag("d" + questionId + "-" + version(this.details, questionId), request);
+    }
+
+    public String listEtag(Integer categoryId,
+                           HttpServletRequest request) {
+
+        return etag("l" + categoryId + "-" + version(this.lists, categoryId), request);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 버전을 올립니다. (커밋 전 내용이 새 버전으로 응답되지 않도록 합니다.)
+    private void afterCommit(Runnable bump) {
+        TransactionCallbacks.afterCommit(() -> bump(bump));
+    }
+
+    private void bump(Runnable bump) {
+        bump.run();
+        if (this.replicaLag.isPositive()) {
+            this.taskScheduler.schedule(bump, Instant.now().plus(this.replicaLag));
+        }
+    }
+
+    private static long version(Map<Integer, AtomicLong> versions,
+                                Integer id) {
+
+        AtomicLong version = versions.get(id);
+        return version == null ? 0 : version.get();
+    }
+
+    // 같은 화면이라도 사용자(작성자 버튼), 세션(CSRF 토큰), 쿼리 문자열(페이지, 정렬)에 따라 내용이 다르므로 함께 포함합니다.
+    private String etag(String version,
+                        HttpServletRequest request) {
+
+        Principal principal = request.getUserPrincipal();
+        HttpSession session = request.getSession(false);
+        int variant = Objects.hash(principal == null ? null : principal.getName(),
+                session == null ? null : session.getId(), request.getQueryString());
+        return "W/\"" + Long.toString(this.epoch, 36) + "-" + version + "-" + Integer.toHexString(variant) + "\"";
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.personal.project.question;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 질문 조회수를 메모리에 모아 두었다가 일정 주기마다 한 번의 배치 UPDATE로 반영하는 카운터입니다.
+ * 조회할 때마다 UPDATE를 실행하지 않고, 동시에 조회해도 증가분이 사라지지 않습니다.
+ */
+@Slf4j
+@Component
+public class QuestionViewCounter {
+
+    private static final String FLUSH_SQL = "update question set view = view + ? where id = ?";
+    private static final String CATEGORY_SQL = "select distinct category_id from question where id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuestionVersions questionVersions;
+    private final TaskScheduler taskScheduler;
+    private final int flushThreshold;
+
+    // 질문 ID -> 아직 반영되지 않은 조회수 (merge는 키 단위로 잠그므로 서로 다른 질문은 경합하지 않습니다.)
+    private final Map<Integer, Long> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 임계값을 넘어 요청한 반영 작업이 아직 실행되지 않았으면 true (요청마다 작업을 추가하지 않습니다.)
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public QuestionViewCounter(JdbcTemplate jdbcTemplate,
+                               QuestionVersions questionVersions,
+                               TaskScheduler taskScheduler,
+                               MeterRegistry meterRegistry,
+                               @Value("${question.view.flush-threshold:1000}") int flushThreshold) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.questionVersions = questionVersions;
+        this.taskScheduler = taskScheduler;
+        this.flushThreshold = flushThreshold;
+        // 아직 반영되지 않은 질문 수
+        Gauge.builder("question.view.pending", this.pending, Map::size).register(meterRegistry);
+    }
+
+    // 조회수를 1 증가시킵니다. 대기 중인 질문 수가 임계값을 넘으면 스케줄러 스레드에서 바로 반영합니다.
+    // (요청 스레드는 UPDATE를 기다리지 않고, 반영에 실패해도 조회 화면은 오류가 되지 않습니다.)
+    public void increment(Integer questionId) {
+        this.pending.merge(questionId, 1L, Long::sum);
+        if (this.pending.size() >= this.flushThreshold && this.flushRequested.compareAndSet(false, true)) {
+            try {
+                this.taskScheduler.execute(() -> {
+                    this.flushRequested.set(false);
+                    flush();
+                });
+            } catch (TaskRejectedException e) {
+                // 종료 중이면 남은 조회수는 shutdown에서 반영합니다.
+                this.flushRequested.set(false);
+            }
+        }
+    }
+
+    // 화면에 표시할 조회수 (저장된 값 + 아직 반영되지 않은 값)
+    public long viewOf(Question question) {
+        return question.getView() + this.pending.getOrDefault(question.getId(), 0L);
+    }
+
+    @Timed("question.view.flush")
+    @Scheduled(fixedDelayString = "${question.view.flush-interval:5000}")
+    public void flush() {
+        this.flushLock.lock();
+        try {
+            drain();
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 조회수를 모두 반영합니다.
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void drain() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+
+        // remove는 원자적으로 현재 값을 가져가므로, 이후의 증가분은 새 항목으로 쌓입니다.
+        List<Object[]> batch = new ArrayList<>();
+        for (Integer questionId : this.pending.keySet()) {
+            Long delta = this.pending.remove(questionId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, questionId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증가분은 다음 주기에 다시 시도합니다.
+            for (Object[] row : batch) {
+                this.pending.merge((Integer) row[1], (Long) row[0], Long::sum);
+            }
+            log.warn("조회수를 반영하지 못했습니다. 다음 주기에 다시 시도합니다. questions={}", batch.size(), e);
+            return;
+        }
+        // 2차 캐시의 질문은 제거하지 않습니다. 조회수는 목록 쿼리가 캐시를 거치지 않고 읽은 값으로만 표시하므로
+        // 캐시에 남은 이전 조회수는 화면에 나타나지 않고, 자주 조회되는 질문이 주기마다 캐시에서 빠지지 않습니다.
+        // 조회수가 바뀐 질문이 있는 카테고리의 목록 ETag만 바꿉니다. (조회가 없던 카테고리의 목록은 계속 304를 받습니다.)
+        String ids = String.join(",", Collections.nCopies(batch.size(), "?"));
+        Object[] questionIds = batch.stream().map(row -> row[1]).toArray();
+        this.jdbcTemplate.queryForList(String.format(CATEGORY_SQL, ids), Integer.class, questionIds)
+                .forEach(this.questionVersions::touchList);
+    }
+}
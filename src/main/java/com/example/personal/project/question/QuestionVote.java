@@ -0,0 +1,44 @@
+package com.example.personal.project.question;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 질문 추천 기록입니다. (질문, 사용자)가 기본 키이므로 한 사용자는 한 질문을 한 번만 추천할 수 있습니다.
+ * 기존 question_voter 테이블을 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "question_voter")
+@IdClass(QuestionVote.Key.class)
+public class QuestionVote {
+
+    @Id
+    @Column(name = "question_id")
+    private Integer questionId;
+
+    @Id
+    @Column(name = "voter_id")
+    private Long voterId;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer questionId;
+        private Long voterId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.personal.project.question;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface QuestionVoteRepository extends JpaRepository<QuestionVote, QuestionVote.Key> {
+
+    // 추천 기록을 추가합니다. 이미 추천한 경우 기본 키 중복은 무시되므로 추가된 행 수(1 또는 0)로 처음 추천인지 알 수 있습니다.
+    @Transactional
+    @Modifying
+    // 네이티브 쿼리는 변경하는 테이블을 알려 주지 않으면 2차 캐시 전체를 비웁니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question_voter"))
+    @Query(value = "insert ignore into question_voter (question_id, voter_id) values (:questionId, :voterId)", nativeQuery = true)
+    int insertIfAbsent(@Param("questionId") Integer questionId,
+                       @Param("voterId") Long voterId);
+
+    // 질문을 삭제하기 전에 추천 기록을 삭제합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from QuestionVote v where v.questionId = :questionId")
+    int deleteByQuestionId(@Param("questionId") Integer questionId);
+}
@@ -0,0 +1,22 @@
+package com.example.personal.project.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 애플리케이션의 PasswordEncoder를 만듭니다. SecurityConfig와 벤치마크(PasswordBenchmark)가 같은 설정을 사용합니다.
+ */
+public final class PasswordEncoders {
+
+    public static final int BCRYPT_STRENGTH = 10; // BCrypt 강도 (기본값)
+
+    private PasswordEncoders() {
+    }
+
+    // 솔트 생성에 공유 SecureRandom을 사용합니다.
+    // 인코딩/비교 시간은 password.encode, password.matches 타이머로 기록합니다.
+    public static PasswordEncoder create(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(BCRYPT_STRENGTH, SecureRandoms.shared()), meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.personal.project.security;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 애플리케이션 전체에서 함께 사용하는 SecureRandom입니다.
+ * <p>
+ * 리눅스의 기본 구현(NativePRNG)과 DRBG 모두 난수를 만드는 동안 synchronized로 잠그므로 (JDK 21 기준)
+ * 두 구현 모두 그동안 가상 스레드가 캐리어 스레드에 고정됩니다. 차이는 잠근 동안 하는 일입니다.
+ * NativePRNG는 잠근 채로 /dev/urandom 파일을 읽고, DRBG는 처음 시드를 읽은 뒤에는 메모리에서 계산만 하므로
+ * 고정되는 시간이 짧고 파일 I/O를 기다리지 않습니다. (BCrypt의 솔트 16바이트는 수 마이크로초 안에 만들어집니다.)
+ * 고정 여부는 테스트에 설정된 -Djdk.tracePinnedThreads=short 출력으로 확인할 수 있습니다.
+ * 호출마다 새로 만들지 않고 하나의 인스턴스를 공유합니다.
+ */
+public final class SecureRandoms {
+
+    private static final SecureRandom SHARED = create();
+
+    private SecureRandoms() {
+    }
+
+    public static SecureRandom shared() {
+        return SHARED;
+    }
+
+    private static SecureRandom create() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
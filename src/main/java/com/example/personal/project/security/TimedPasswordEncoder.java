@@ -0,0 +1,40 @@
+package com.example.personal.project.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 인코딩/비교 시간을 password.encode, password.matches 타이머로 기록하는 PasswordEncoder입니다.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate,
+                                MeterRegistry registry) {
+
+        this.delegate = delegate;
+        this.encodeTimer = Timer.builder("password.encode").publishPercentileHistogram().register(registry);
+        this.matchesTimer = Timer.builder("password.matches").publishPercentileHistogram().register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.encodeTimer.record(() -> this.delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword,
+                           String encodedPassword) {
+
+        return Boolean.TRUE.equals(this.matchesTimer.record(() -> this.delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword);
+    }
+}
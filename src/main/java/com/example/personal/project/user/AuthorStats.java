@@ -0,0 +1,12 @@
+package com.example.personal.project.user;
+
+/**
+ * 작성자별 집계 결과 (작성한 질문 수, 답변 수와 질문/답변으로 받은 추천 수)
+ */
+public interface AuthorStats {
+    long getQuestionCount();
+
+    long getAnswerCount();
+
+    long getVotes();
+}
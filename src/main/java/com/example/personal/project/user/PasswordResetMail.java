@@ -0,0 +1,43 @@
+package com.example.personal.project.user;
+
+import com.example.personal.project.mail.MailComposer;
+import com.example.personal.project.mail.MailOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 초기화 메일입니다. 임시 비밀번호는 보낼 때 만들고 발송에 성공한 뒤에 적용하므로
+ * 메일 대기열(mail_outbox)에는 사용자 ID만 저장되고, 메일을 받지 못한 사용자의 비밀번호는 바뀌지 않습니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PasswordResetMail implements MailComposer {
+
+    public static final String TYPE = "PASSWORD_RESET";
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public Composed compose(MailOutbox mail) {
+        SiteUser user = this.userRepository.findById(mail.getReference()).orElse(null);
+        if (user == null) {
+            return null; // 탈퇴한 사용자
+        }
+
+        String newPassword = UserController.PasswordGenerator.generateRandomPassword();
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        message.setSubject("계정 정보입니다.");
+        message.setText(user.getUsername() + "계정의 비밀번호를 새롭게 초기화 했습니다..\n"
+                + "새 비밀번호는 " + newPassword + "입니다.\n"
+                + "로그인 후 내 정보에서 새로 비밀번호를 지정해주세요.");
+        return new Composed(message, () -> this.userService.update(user, newPassword));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.personal.project.user;
+
+import com.example.personal.project.answer.Answer;
+import com.example.personal.project.question.Question;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 프로필 화면에 표시할 사용자 활동입니다.
+ *
+ * @param questions     작성한 질문 (한 페이지)
+ * @param answers       작성한 답변 (한 페이지)
+ * @param questionCount 작성한 질문 수
+ * @param answerCount   작성한 답변 수
+ * @param votes         질문과 답변으로 받은 추천 수
+ */
+public record UserActivity(Slice<Question> questions,
+                           Slice<Answer> answers,
+                           long questionCount,
+                           long answerCount,
+                           long votes) {
+}
@@ -0,0 +1,55 @@
+package com.example.personal.project.user;
+
+import com.example.personal.project.answer.Answer;
+import com.example.personal.project.answer.AnswerRepository;
+import com.example.personal.project.question.Question;
+import com.example.personal.project.question.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 프로필 화면의 질문/답변 목록과 합계를 조회합니다.
+ * 목록은 페이지 단위로, 합계는 하나의 집계 쿼리로 조회합니다.
+ * 두 목록은 작업 실행기에서, 합계는 요청 스레드에서 동시에 실행하므로 한 요청이 동시에 사용하는 커넥션은 최대 세 개입니다.
+ * 요청 스레드는 합계 트랜잭션이 끝나면 커넥션을 반환하므로(ConnectionReleaseConfig) 목록을 기다리는 동안에는 커넥션을 갖고 있지 않습니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class UserActivityService {
+
+    public static final int LIST_SIZE = 10; // 목록 한 페이지에 표시할 글 수
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final UserRepository userRepository;
+    private final AsyncTaskExecutor applicationTaskExecutor; // 스프링 부트의 기본 작업 실행기 (가상 스레드 모드에서는 가상 스레드)
+
+    public UserActivity getActivity(SiteUser user,
+                                    int questionPage,
+                                    int answerPage) {
+
+        Sort sort = Sort.by(Sort.Order.desc("createDate"), Sort.Order.desc("id"));
+        Pageable questionPageable = PageRequest.of(questionPage, LIST_SIZE, sort);
+        Pageable answerPageable = PageRequest.of(answerPage, LIST_SIZE, sort);
+
+        CompletableFuture<Slice<Question>> questions = supply(() -> this.questionRepository.findByAuthor(user, questionPageable));
+        CompletableFuture<Slice<Answer>> answers = supply(() -> this.answerRepository.findByAuthor(user, answerPageable));
+        AuthorStats stats = this.userRepository.findStatsByAuthor(user);
+
+        CompletableFuture.allOf(questions, answers).join();
+        return new UserActivity(questions.join(), answers.join(),
+                stats.getQuestionCount(), stats.getAnswerCount(), stats.getVotes());
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, this.applicationTaskExecutor);
+    }
+}
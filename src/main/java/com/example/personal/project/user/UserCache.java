@@ -0,0 +1,61 @@
+package com.example.personal.project.user;
+
+import com.example.personal.project.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 사용자 이름으로 사용자를 찾는 크기 제한 캐시입니다.
+ * UserService와 UserSecurityService가 함께 사용하며, 비밀번호를 바꾸면 해당 사용자를 제거합니다.
+ * 캐시에는 변경할 수 없는 사본(Snapshot)만 두고, 조회할 때마다 새 SiteUser를 만들어 반환하므로
+ * 호출한 쪽이 엔티티를 수정해도 캐시된 값은 바뀌지 않습니다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final LruCache<String, Snapshot> users;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.max-size:10000}") int maxSize) {
+
+        this.userRepository = userRepository;
+        this.users = LruCache.ofSize(maxSize);
+    }
+
+    // 캐시에 없으면 데이터베이스에서 조회합니다. 존재하지 않는 사용자는 캐시하지 않습니다.
+    public Optional<Snapshot> findByUsername(String username) {
+        return Optional.ofNullable(this.users.computeIfAbsent(username,
+                name -> this.userRepository.findByUsername(name).map(Snapshot::of).orElse(null)));
+    }
+
+    public void evict(String username) {
+        this.users.remove(username);
+    }
+
+    public LruCache<String, Snapshot> getUsers() {
+        return this.users;
+    }
+
+    public record Snapshot(Long id,
+                           String username,
+                           String password,
+                           String email) {
+
+        static Snapshot of(SiteUser user) {
+            return new Snapshot(user.getId(), user.getUsername(), user.getPassword(), user.getEmail());
+        }
+
+        // 준영속 상태의 새 SiteUser를 만듭니다. (작성자 지정, 저장 등에 그대로 사용할 수 있습니다.)
+        public SiteUser toUser() {
+            SiteUser user = new SiteUser();
+            user.setId(this.id);
+            user.setUsername(this.username);
+            user.setPassword(this.password);
+            user.setEmail(this.email);
+            return user;
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package com.example.personal.project.user;
 
 import com.example.personal.project.Message;
-import com.example.personal.project.answer.Answer;
-import com.example.personal.project.answer.AnswerService;
 import com.example.personal.project.error.DataNotFoundException;
-import com.example.personal.project.question.Question;
-import com.example.personal.project.question.QuestionService;
+import com.example.personal.project.mail.MailOutboxService;
+import com.example.personal.project.security.SecureRandoms;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -21,8 +17,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.security.Principal;
-import java.security.SecureRandom;
-import java.util.List;
 import java.util.Random;
 
 @RequiredArgsConstructor
@@ -30,21 +24,23 @@ import java.util.Random;
 @RequestMapping("/user")
 public class UserController {
     private final UserService userService;
-    private final QuestionService questionService;
-    private final AnswerService answerService;
-    private final JavaMailSender mailSender;
+    private final UserActivityService userActivityService;
+    private final MailOutboxService mailOutboxService;
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/info")
     public String getInfo(Model model,
-                          Principal principal) {
+                          Principal principal,
+                          @RequestParam(value = "qpage", defaultValue = "0") int questionPage,
+                          @RequestParam(value = "apage", defaultValue = "0") int answerPage) {
 
         SiteUser user = this.userService.getUser(principal.getName());
-        List<Question> questionList = this.questionService.getQuestions(user);
-        List<Answer> answerList = this.answerService.getListByAuthor(user);
+        // 질문/답변 목록은 한 페이지씩, 합계는 집계 쿼리로 동시에 조회합니다.
+        UserActivity activity = this.userActivityService.getActivity(user, questionPage, answerPage);
 
-        model.addAttribute("answers", answerList);
-        model.addAttribute("questions", questionList);
+        model.addAttribute("activity", activity);
+        model.addAttribute("answers", activity.answers());
+        model.addAttribute("questions", activity.questions());
         model.addAttribute("user", user);
         return "user_info";
     }
@@ -143,23 +139,8 @@ public class UserController {
             model.addAttribute("sendConfirm", true);
             model.addAttribute("userEmail", email);
             model.addAttribute("error", false);
-            SimpleMailMessage simpleMailMessage = new SimpleMailMessage();
-            simpleMailMessage.setTo(email);
-            simpleMailMessage.setSubject("계정 정보입니다.");
-            StringBuffer sb = new StringBuffer();
-
-            String newPassword = PasswordGenerator.generateRandomPassword();
-            sb.append(siteUser.getUsername()).append("계정의 비밀번호를 새롭게 초기화 했습니다..\n").append("새 비밀번호는 ")
-                    .append(newPassword).append("입니다.\n")
-                    .append("로그인 후 내 정보에서 새로 비밀번호를 지정해주세요.");
-            simpleMailMessage.setText(sb.toString());
-            this.userService.update(siteUser, newPassword);
-            new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    mailSender.send(simpleMailMessage);
-                }
-            }).start();
+            // 임시 비밀번호는 작업 스레드가 메일을 보낼 때 만들고, 발송에 성공하면 적용합니다.
+            this.mailOutboxService.enqueue(PasswordResetMail.TYPE, email, siteUser.getId());
         } catch (DataNotFoundException e) {
             model.addAttribute("sendConfirm", false);
             model.addAttribute("error", true);
@@ -180,7 +161,7 @@ public class UserController {
             if (PASSWORD_LENGTH < 1) throw new IllegalArgumentException("Password length must be at least 1");
 
             StringBuilder sb = new StringBuilder(PASSWORD_LENGTH);
-            Random random = new SecureRandom();
+            Random random = SecureRandoms.shared(); // 호출마다 새로 만들지 않고 공유합니다.
 
             for (int i = 0; i < PASSWORD_LENGTH; i++) {
                 int rndCharAt = random.nextInt(PASSWORD_ALLOW_BASE.length());
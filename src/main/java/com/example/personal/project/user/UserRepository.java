@@ -1,10 +1,29 @@
 package com.example.personal.project.user;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<SiteUser, Long> {
+    // 로그인과 작성자 조회 결과는 쿼리 캐시에 보관합니다. (site_user 테이블이 바뀌면 무효화됩니다.)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.user")})
     Optional<SiteUser> findByUsername(String username);
+
     Optional<SiteUser> findByEmail(String email);
+
+    // 작성자의 질문 수, 답변 수와 받은 추천 수를 한 번의 쿼리로 조회합니다.
+    @Query("select (select count(q1) from Question q1 where q1.author = u) as questionCount, "
+            + "(select count(a1) from Answer a1 where a1.author = u) as answerCount, "
+            + "(select coalesce(sum(q2.voteCount), 0) from Question q2 where q2.author = u) "
+            + "+ (select coalesce(sum(a2.voteCount), 0) from Answer a2 where a2.author = u) as votes "
+            + "from SiteUser u where u = :author")
+    @Transactional(readOnly = true)
+    AuthorStats findStatsByAuthor(@Param("author") SiteUser author);
 }
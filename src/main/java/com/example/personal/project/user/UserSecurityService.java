@@ -17,21 +17,21 @@ import java.util.Optional;
 @Service
 public class UserSecurityService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<SiteUser> _siteUser = this.userRepository.findByUsername(username);
+        Optional<UserCache.Snapshot> _siteUser = this.userCache.findByUsername(username);
         if (_siteUser.isEmpty()) {
             throw new UsernameNotFoundException(("사용자를 찾을 수 없습니다."));
         }
-        SiteUser siteUser = _siteUser.get();
+        UserCache.Snapshot siteUser = _siteUser.get();
         List<GrantedAuthority> authorities = new ArrayList<>();
         if ("admin".equals(username)) {
             authorities.add(new SimpleGrantedAuthority(UserRole.ADMIN.getValue()));
         } else {
             authorities.add(new SimpleGrantedAuthority(UserRole.USER.getValue()));
         }
-        return new User(siteUser.getUsername(), siteUser.getPassword(), authorities);
+        return new User(siteUser.username(), siteUser.password(), authorities);
     }
 }
\ No newline at end of file
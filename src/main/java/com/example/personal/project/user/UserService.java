@@ -12,6 +12,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final PasswordEncoder passwordEncoder;
 
     public SiteUser create(String username,
@@ -31,6 +32,8 @@ public class UserService {
 
         modifyUser.setPassword(passwordEncoder.encode(password));
         this.userRepository.save(modifyUser);
+        // 저장(커밋)한 뒤에 제거해야 저장 전에 다시 읽은 이전 비밀번호가 캐시에 남지 않습니다.
+        this.userCache.evict(modifyUser.getUsername());
     }
 
     public boolean isSamePassword(SiteUser user,
@@ -41,10 +44,10 @@ public class UserService {
 
 
     public SiteUser getUser(String username) {
-        Optional<SiteUser> siteUser = this.userRepository.findByUsername(username);
+        Optional<UserCache.Snapshot> siteUser = this.userCache.findByUsername(username);
 
         if (siteUser.isPresent()) {
-            return siteUser.get();
+            return siteUser.get().toUser();
         } else {
             throw new DataNotFoundException("siteUser not found");
         }
@@ -64,6 +67,7 @@ public class UserService {
 
         user.setPassword(this.passwordEncoder.encode(newPassword));
         this.userRepository.save(user);
+        this.userCache.evict(user.getUsername());
         return user;
     }
 
@@ -0,0 +1,108 @@
+package com.example.personal.project;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 DataSource 래퍼로, 실행한 SQL 문 수와 ResultSet에서 읽은 행 수를 셉니다.
+ * 프로필 화면처럼 다른 스레드에서 실행되는 조회도 포함되도록 스레드를 구분하지 않으므로 한 번에 한 요청만 측정해야 합니다.
+ * <p>
+ * {@code @Import(JdbcCounter.Config.class)}로 등록합니다.
+ */
+public final class JdbcCounter {
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static final AtomicLong ROWS = new AtomicLong();
+
+    private JdbcCounter() {
+    }
+
+    public static void reset() {
+        STATEMENTS.set(0);
+        ROWS.set(0);
+    }
+
+    public static long statements() {
+        return STATEMENTS.get();
+    }
+
+    public static long rows() {
+        return ROWS.get();
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor jdbcCounterPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    // Connection이 만든 Statement와 Statement가 반환한 ResultSet을 다시 감쌉니다.
+    private static <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(method, target, args);
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                STATEMENTS.incrementAndGet();
+            }
+            if (target instanceof ResultSet && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                ROWS.incrementAndGet();
+            }
+            return wrap(method, result);
+        };
+        return type.cast(Proxy.newProxyInstance(JdbcCounter.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object wrap(Method method, Object result) {
+        Class<?> returnType = method.getReturnType();
+        if (result != null && (Statement.class.isAssignableFrom(returnType) || returnType == ResultSet.class)) {
+            return proxy((Class<Object>) returnType, result);
+        }
+        return result;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
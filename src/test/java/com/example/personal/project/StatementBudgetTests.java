@@ -0,0 +1,179 @@
+package com.example.personal.project;
+
+import com.example.personal.project.answer.Answer;
+import com.example.personal.project.answer.AnswerService;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.comment.CommentService;
+import com.example.personal.project.note.NoteService;
+import com.example.personal.project.notebook.Notebook;
+import com.example.personal.project.notebook.NotebookRepository;
+import com.example.personal.project.notebook.NotebookService;
+import com.example.personal.project.question.Question;
+import com.example.personal.project.question.QuestionRepository;
+import com.example.personal.project.question.QuestionService;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserActivityService;
+import com.example.personal.project.user.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 주요 화면이 요청 한 번에 실행하는 SQL 문 수와 읽는 행 수가 데이터 양과 관계없이 정해진 범위 안에 있는지 확인합니다.
+// N+1 조회나 목록 전체를 읽는 변경이 생기면 이 테스트가 실패합니다.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@Import(JdbcCounter.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTests {
+
+    private static final String USERNAME = "budget0";
+    private static final int USERS = 30;
+    private static final int QUESTIONS = 200;
+    private static final int ANSWERS_PER_QUESTION = 5;
+    private static final int COMMENTS_PER_QUESTION = 2;
+    private static final int ROOT_NOTEBOOKS = 5;
+    private static final int CHILD_NOTEBOOKS = 4;
+    private static final int NOTEBOOKS = ROOT_NOTEBOOKS * (CHILD_NOTEBOOKS + 1);
+    private static final int NOTES = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private NotebookService notebookService;
+
+    @Autowired
+    private NotebookRepository notebookRepository;
+
+    @Autowired
+    private NoteService noteService;
+
+    private Integer questionId;
+    private Long notebookId;
+    private Long noteId;
+
+    @BeforeAll
+    void seed() {
+        List<SiteUser> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(this.userService.create("budget" + i, "budget" + i + "@example.com", "password"));
+        }
+
+        Category category = this.categoryService.getCategoryByTitle("qna");
+        for (int i = 0; i < QUESTIONS; i++) {
+            this.questionService.create("질문 " + i, "질문 본문 **" + i + "**", users.get(i % USERS), category);
+        }
+        List<Question> questions = this.questionRepository.findByCategory(category, PageRequest.of(0, QUESTIONS)).getContent();
+        for (Question question : questions) {
+            for (int c = 0; c < COMMENTS_PER_QUESTION; c++) {
+                this.commentService.create(question, "질문 댓글 " + c, users.get((question.getId() + c) % USERS));
+            }
+            for (int a = 0; a < ANSWERS_PER_QUESTION; a++) {
+                Answer answer = this.answerService.create(question, "답변 " + a, users.get((question.getId() + a) % USERS));
+                this.commentService.create(answer, "답변 댓글", users.get((question.getId() + a + 1) % USERS));
+            }
+        }
+        this.questionId = questions.get(0).getId();
+
+        for (int r = 0; r < ROOT_NOTEBOOKS; r++) {
+            Notebook root = this.notebookService.create(null, "노트북 " + r);
+            for (int c = 0; c < CHILD_NOTEBOOKS; c++) {
+                this.notebookService.create(root.getId(), "노트북 " + r + "-" + c);
+            }
+        }
+        // 메인 화면은 트리의 첫 번째 노트북을 보여 줍니다.
+        this.notebookId = this.notebookService.getTree().get(0).getId();
+        Notebook notebook = this.notebookRepository.findById(this.notebookId).orElseThrow();
+        for (int i = 0; i < NOTES; i++) {
+            this.noteId = this.noteService.saveDefault(notebook).getId();
+        }
+    }
+
+    @Test
+    void questionList() throws Exception {
+        // 질문 페이지, 카테고리, 작성자 배치 조회, 전체 개수
+        assertBudget(get("/question/list/qna"), 4,
+                QuestionService.LIST_SIZE * 2 + 2);
+    }
+
+    @Test
+    void questionDetail() throws Exception {
+        // 질문(+작성자, 카테고리, 질문 댓글), 답변 페이지(+작성자), 답변 수, 답변 댓글과 댓글 작성자 배치 조회
+        // 답변마다 댓글이 있으므로 답변이나 댓글 단위의 N+1 조회가 생기면 문 수가 예산을 넘습니다.
+        assertBudget(get("/question/detail/{id}", this.questionId), 6,
+                COMMENTS_PER_QUESTION + AnswerService.LIST_SIZE * 3 + 1);
+    }
+
+    @Test
+    void userInfo() throws Exception {
+        // 질문 슬라이스와 답변 슬라이스(+질문), 각각의 연관 엔티티 조회, 질문/답변 합계
+        assertBudget(get("/user/info"), 10,
+                (UserActivityService.LIST_SIZE + 1) * 2 + UserActivityService.LIST_SIZE + 8);
+    }
+
+    @Test
+    void mainPage() throws Exception {
+        // 노트북 트리, 노트북, 노트 목록, 노트 본문
+        assertBudget(get("/"), 4,
+                NOTEBOOKS + NoteService.LIST_SIZE + 3);
+    }
+
+    @Test
+    void noteDetail() throws Exception {
+        // 노트 본문, 노트북 트리, 노트북, 노트 목록
+        assertBudget(get("/books/{notebookId}/notes/{id}", this.notebookId, this.noteId), 4,
+                NOTEBOOKS + NoteService.LIST_SIZE + 3);
+    }
+
+    private void assertBudget(MockHttpServletRequestBuilder request,
+                              long maxStatements,
+                              long maxRows) throws Exception {
+
+        request.with(user(USERNAME));
+
+        // 캐시가 채워진 상태를 측정하기 위해 한 번 먼저 요청합니다.
+        this.mockMvc.perform(request).andExpect(status().isOk());
+
+        JdbcCounter.reset();
+        MvcResult result = this.mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+
+        String uri = result.getRequest().getRequestURI();
+        assertThat(JdbcCounter.statements()).as("SQL statements for %s", uri).isLessThanOrEqualTo(maxStatements);
+        assertThat(JdbcCounter.rows()).as("rows fetched for %s", uri).isLessThanOrEqualTo(maxRows);
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.personal.project.datasource;
+
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.question.Question;
+import com.example.personal.project.question.QuestionRepository;
+import com.example.personal.project.question.QuestionService;
+import com.example.personal.project.question.QuestionVersions;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 개의 H2 데이터베이스로 읽기 전용 트랜잭션은 복제본, 쓰기는 주 데이터베이스로 가는지 확인합니다.
+// 복제본에서 읽은 이전 값이 2차 캐시나 ETag에 남지 않는지도 확인합니다.
+// 복제는 테스트에서 주 데이터베이스 내용을 복제본에 복사하는 것으로 대신하므로, 복사 전까지는 복제본이 지연된 상태입니다.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "replica.datasource.jdbc-url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "replica.datasource.driver-class-name=org.h2.Driver",
+        "replica.datasource.username=sa",
+        "replica.datasource.password=",
+        "replica.read-your-writes.window=2s"
+})
+@Import(ReplicaRoutingTests.Replication.class)
+class ReplicaRoutingTests {
+
+    @Autowired
+    private Replication replication;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionVersions questionVersions;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SiteUser author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        String username = "routing" + System.nanoTime();
+        this.author = this.userService.create(username, username + "@example.com", "password");
+        this.category = this.categoryService.getCategoryByTitle("routing");
+        this.replication.replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        long replicated = listedCount();
+        createQuestion();
+
+        // 쓰기는 주 데이터베이스에만 반영되고, 읽기 전용 트랜잭션은 아직 복제되지 않은 복제본을 읽습니다.
+        assertThat(this.questionRepository.countByCategory(this.category)).isEqualTo(replicated + 1);
+        assertThat(listedCount()).isEqualTo(replicated);
+
+        this.replication.replicate();
+        assertThat(listedCount()).isEqualTo(replicated + 1);
+    }
+
+    @Test
+    void readsAfterOwnWriteUsePrimary() {
+        long replicated = listedCount();
+
+        enterSession();
+        createQuestion();
+        // 쓰기를 한 세션은 복제 전에도 자신이 쓴 글을 읽습니다.
+        assertThat(listedCount()).isEqualTo(replicated + 1);
+
+        // 다른 세션은 계속 복제본을 읽습니다.
+        enterSession();
+        assertThat(listedCount()).isEqualTo(replicated);
+    }
+
+    @Test
+    void replicaReadsDoNotFillSecondLevelCache() {
+        createQuestion();
+        this.replication.replicate();
+        Integer id = latestQuestionId();
+        Cache cache = this.entityManagerFactory.getCache();
+        cache.evictAll();
+
+        // 복제본에서 읽은 질문은 캐시에 넣지 않습니다.
+        this.questionService.getQuestionDetail(id);
+        assertThat(cache.contains(Question.class, id)).isFalse();
+
+        // 주 데이터베이스에서 같은 쿼리로 읽으면 캐시에 넣습니다.
+        new TransactionTemplate(this.transactionManager).execute(status -> this.questionRepository.findDetailById(id));
+        assertThat(cache.contains(Question.class, id)).isTrue();
+    }
+
+    @Test
+    void etagChangesAgainAfterReplicationWindow() throws InterruptedException {
+        createQuestion();
+        this.replication.replicate();
+        Integer id = latestQuestionId();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        String before = this.questionVersions.detailEtag(id, request);
+
+        this.questionService.vote(this.questionService.getQuestion(id), this.author);
+        String committed = this.questionVersions.detailEtag(id, request);
+        assertThat(committed).isNotEqualTo(before);
+
+        // 커밋 직후 복제본에서 읽어 만든 화면이 새 ETag로 계속 304를 받지 않도록 복제 지연 시간 뒤에 한 번 더 바뀝니다.
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (this.questionVersions.detailEtag(id, request).equals(committed)) {
+            assertThat(System.nanoTime()).as("ETag가 다시 바뀌지 않았습니다.").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    private Integer latestQuestionId() {
+        return this.questionRepository.findByCategory(this.category, PageRequest.of(0, 1, Sort.by(Sort.Order.desc("id"))))
+                .getContent().get(0).getId();
+    }
+
+    private void createQuestion() {
+        this.questionService.create("복제 테스트", "복제 테스트 본문", this.author, this.category);
+    }
+
+    // 읽기 전용 트랜잭션(질문 목록)으로 카테고리의 질문 수를 조회합니다.
+    private long listedCount() {
+        return this.questionService.getList(0, "", this.category).getTotalElements();
+    }
+
+    // 새 HTTP 세션의 요청을 처리하는 중인 것처럼 설정합니다.
+    private static void enterSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.getSession(true);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    // 주 데이터베이스의 스키마와 데이터를 복제본에 그대로 복사합니다.
+    // 애플리케이션 시작 작업이 복제본을 읽기 전에 스키마가 있어야 하므로 모든 빈이 만들어진 직후에도 한 번 복사합니다.
+    @TestConfiguration
+    static class Replication implements SmartInitializingSingleton {
+
+        private final JdbcTemplate primary;
+        private final JdbcTemplate replica;
+
+        Replication(@Qualifier("primaryDataSource") DataSource primary,
+                    @Qualifier("replicaDataSource") DataSource replica) {
+
+            this.primary = new JdbcTemplate(primary);
+            this.replica = new JdbcTemplate(replica);
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            replicate();
+        }
+
+        void replicate() {
+            List<String> script = this.primary.queryForList("SCRIPT", String.class);
+            this.replica.execute("DROP ALL OBJECTS");
+            script.forEach(this.replica::execute);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.personal.project.mail;
+
+import com.example.personal.project.user.PasswordResetMail;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserRepository;
+import com.example.personal.project.user.UserService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 SMTP 서버(GreenMail)로 메일 발송 대기열을 확인합니다.
+@SpringBootTest(properties = {
+        "spring.mail.port=3025",
+        "mail.dispatch.initial-backoff=200ms",
+        "mail.dispatch.max-backoff=1s",
+        "mail.dispatch.poll-interval=100"
+})
+class MailOutboxServiceTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void sendsQueuedMailsAndDeletesThem() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            this.mailOutboxService.enqueue(message("user" + i + "@example.com"));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 5)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(5);
+        assertThat(received[0].getSubject()).isEqualTo("계정 정보입니다.");
+        await(() -> this.mailOutboxRepository.count() == 0);
+    }
+
+    @Test
+    void retriesAfterSmtpServerComesBack() throws Exception {
+        greenMail.stop();
+        this.mailOutboxService.enqueue(message("retry@example.com"));
+
+        // 서버가 없는 동안에는 시도 횟수만 늘고 메일은 테이블에 남아 있습니다.
+        await(() -> this.mailOutboxRepository.findAll().stream().anyMatch(mail -> mail.getAttempts() > 0));
+        assertThat(this.mailOutboxRepository.count()).isEqualTo(1);
+
+        greenMail.start();
+        assertThat(greenMail.waitForIncomingEmail(10000, 1)).isTrue();
+        await(() -> this.mailOutboxRepository.count() == 0);
+        assertThat(this.meterRegistry.get("mail.messages").tag("result", "retry").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void passwordResetMailKeepsNoPasswordInOutbox() throws Exception {
+        String username = "reset" + System.nanoTime();
+        SiteUser user = this.userService.create(username, username + "@example.com", "old-password");
+        this.mailOutboxService.enqueue(PasswordResetMail.TYPE, user.getEmail(), user.getId());
+
+        // 대기열에는 본문이 저장되지 않습니다.
+        assertThat(this.mailOutboxRepository.findAll()).allSatisfy(mail -> assertThat(mail.getText()).isNull());
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        Matcher matcher = Pattern.compile("새 비밀번호는 (.+)입니다.")
+                .matcher((String) greenMail.getReceivedMessages()[0].getContent());
+        assertThat(matcher.find()).isTrue();
+        // 발송에 성공한 뒤 메일에 적힌 비밀번호가 적용됩니다.
+        await(() -> this.userService.isSamePassword(this.userRepository.findById(user.getId()).orElseThrow(), matcher.group(1)));
+    }
+
+    @Test
+    void failedCallbackKeepsMailForRetry() throws Exception {
+        this.mailOutboxService.enqueue(FailingCallbackMail.TYPE, "callback@example.com", 1L);
+
+        // 메일은 보냈지만 발송 후 작업이 실패했으므로 삭제하지 않고 다시 시도합니다.
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        await(() -> this.mailOutboxRepository.findAll().stream().anyMatch(mail -> mail.getAttempts() > 0));
+        assertThat(this.mailOutboxRepository.findAll()).singleElement()
+                .satisfies(mail -> assertThat(mail.getLastError()).isEqualTo("callback failed"));
+    }
+
+    @Test
+    void failedMailDropsItsBody() throws Exception {
+        greenMail.stop();
+        this.mailOutboxService.enqueue(message("failed@example.com"));
+
+        await(() -> this.mailOutboxRepository.findAll().stream().anyMatch(mail -> MailOutbox.FAILED.equals(mail.getStatus())));
+        assertThat(this.mailOutboxRepository.findAll()).singleElement()
+                .satisfies(mail -> assertThat(mail.getText()).isNull());
+    }
+
+    @TestConfiguration
+    static class FailingCallbackMail implements MailComposer {
+
+        static final String TYPE = "FAILING_CALLBACK";
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public Composed compose(MailOutbox mail) {
+            return new Composed(message(mail.getRecipient()), () -> {
+                throw new IllegalStateException("callback failed");
+            });
+        }
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("계정 정보입니다.");
+        message.setText("새 비밀번호는 test1234 입니다.");
+        return message;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 기다리는 시간이 초과되었습니다.").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.personal.project.metrics;
+
+import com.example.personal.project.CommonUtil;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.question.QuestionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// @Timed가 붙은 메서드를 호출하면 MeterRegistry에 타이머가 기록되는지 확인합니다.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:timed-metrics;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class TimedMetricsTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private CommonUtil commonUtil;
+
+    @Test
+    void timedMethodsRecordTimers() {
+        Category category = this.categoryService.getCategoryByTitle("metrics");
+        this.questionService.getList(0, "", category);
+        this.commonUtil.markdown("**metrics**");
+
+        assertRecorded("question.list");
+        assertRecorded("markdown.render");
+    }
+
+    private void assertRecorded(String name) {
+        Timer timer = this.meterRegistry.find(name).timer();
+        assertThat(timer).as("timer %s", name).isNotNull();
+        assertThat(timer.count()).as("timer %s", name).isPositive();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.personal.project.note;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스냅샷 간격 두 번 이상의 수정을 기록한 뒤 모든 리비전의 본문을 다시 만들고, 압축한 뒤에도 모든 리비전이 그대로인지 확인합니다.
+@SpringBootTest
+class NoteRevisionTests {
+
+    private static final int EDITS = NoteService.SNAPSHOT_INTERVAL * 2 + 5;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private NoteRevisionCompactor noteRevisionCompactor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuildsEveryRevisionBeforeAndAfterCompaction() {
+        Note note = this.noteService.saveDefault();
+        // 첫 수정 전 본문이 첫 리비전입니다.
+        List<String> contents = new ArrayList<>();
+        String content = note.getContent();
+        contents.add(content);
+        for (int i = 1; i <= EDITS; i++) {
+            content = edit(content, i);
+            contents.add(content);
+            this.noteService.update(note, "title " + i, content);
+        }
+
+        assertThat(this.noteService.getRevisionNumbers(note)).hasSize(contents.size());
+        assertRevisions(note, contents);
+
+        // 모든 리비전을 압축 기간보다 오래된 것으로 바꾸면 모든 델타가 앞 스냅샷을 기준으로 다시 저장됩니다.
+        this.jdbcTemplate.update("update note_revision set create_date = ? where note_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusYears(1)), note.getId());
+        this.noteRevisionCompactor.compact();
+
+        assertThat(this.jdbcTemplate.queryForObject("select count(*) from note_revision "
+                + "where note_id = ? and snapshot = false and base_revision is null", Long.class, note.getId())).isZero();
+        assertThat(this.noteService.getRevisionNumbers(note)).hasSize(contents.size());
+        assertRevisions(note, contents);
+    }
+
+    private void assertRevisions(Note note,
+                                 List<String> contents) {
+
+        for (int revision = 1; revision <= contents.size(); revision++) {
+            assertThat(this.noteService.getRevisionContent(note, revision))
+                    .as("revision %d", revision)
+                    .isEqualTo(contents.get(revision - 1));
+        }
+    }
+
+    // 뒤에 추가, 가운데 삽입, 앞부분 삭제, 서로게이트 쌍(이모지) 변경을 번갈아 적용합니다.
+    private static String edit(String content,
+                               int i) {
+
+        int length = content.codePointCount(0, content.length());
+        return switch (i % 4) {
+            case 0 -> content + " 줄" + i;
+            case 1 -> {
+                int middle = content.offsetByCodePoints(0, length / 2);
+                yield content.substring(0, middle) + "[" + i + "]" + content.substring(middle);
+            }
+            case 2 -> length > 3 ? content.substring(content.offsetByCodePoints(0, 3)) + "끝" : content + "시작";
+            default -> content.replace("😀", "😁") + "😀";
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.answer.Answer;
+import com.example.personal.project.answer.AnswerService;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.comment.CommentService;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 화면이 바뀌지 않으면 304를 응답하고, 답변/댓글/추천/조회수 반영 뒤에는 새 내용을 응답하는지 확인합니다.
+@SpringBootTest
+@AutoConfigureMockMvc
+class QuestionEtagTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private QuestionViewCounter questionViewCounter;
+
+    private SiteUser author;
+    private Category category;
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        String username = "etag" + System.nanoTime();
+        this.author = this.userService.create(username, username + "@example.com", "password");
+        this.category = this.categoryService.getCategoryByTitle(username);
+        this.question = seedQuestion(this.category);
+    }
+
+    @Test
+    void unchangedDetailIsNotModified() throws Exception {
+        String etag = detailEtag(null);
+        assertThat(detailEtag(etag)).isEqualTo(etag);
+    }
+
+    @Test
+    void detailChangesAfterAnswerCommentAndVote() throws Exception {
+        String etag = detailEtag(null);
+
+        this.answerService.create(this.question, "답변", this.author);
+        String answered = detailEtag(etag);
+        assertThat(answered).isNotEqualTo(etag);
+
+        this.commentService.create(this.question, "댓글", this.author);
+        String commented = detailEtag(answered);
+        assertThat(commented).isNotEqualTo(answered);
+
+        this.questionService.vote(this.question, this.author);
+        assertThat(detailEtag(commented)).isNotEqualTo(commented);
+    }
+
+    @Test
+    void listChangesOnlyWhenItsCategoryChanges() throws Exception {
+        String etag = listEtag(null);
+        assertThat(listEtag(etag)).isEqualTo(etag);
+
+        // 다른 카테고리의 조회수 반영은 이 목록에 영향을 주지 않습니다.
+        Question other = seedQuestion(this.categoryService.getCategoryByTitle(this.category.getTitle() + "-other"));
+        this.questionViewCounter.increment(other.getId());
+        this.questionViewCounter.flush();
+        assertThat(listEtag(etag)).isEqualTo(etag);
+
+        this.questionViewCounter.increment(this.question.getId());
+        this.questionViewCounter.flush();
+        String viewed = listEtag(etag);
+        assertThat(viewed).isNotEqualTo(etag);
+
+        Answer answer = this.answerService.create(this.question, "답변", this.author);
+        String answered = listEtag(viewed);
+        assertThat(answered).isNotEqualTo(viewed);
+
+        // 검색 결과는 답변 내용으로도 찾으므로 답변 수정도 목록을 바꿉니다.
+        this.answerService.modify(answer, "수정한 답변");
+        assertThat(listEtag(answered)).isNotEqualTo(answered);
+    }
+
+    // 이전 ETag로 요청하여 304이면 같은 ETag를, 200이면 새 ETag를 반환합니다.
+    private String detailEtag(String ifNoneMatch) throws Exception {
+        return etag("/question/detail/" + this.question.getId(), ifNoneMatch);
+    }
+
+    private String listEtag(String ifNoneMatch) throws Exception {
+        return etag("/question/list/" + this.category.getTitle(), ifNoneMatch);
+    }
+
+    private String etag(String url,
+                        String ifNoneMatch) throws Exception {
+
+        MockHttpServletResponse response = this.mockMvc.perform(ifNoneMatch == null ? get(url)
+                        : get(url).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                .andReturn().getResponse();
+        assertThat(response.getStatus()).isEqualTo(response.getHeader(HttpHeaders.ETAG).equals(ifNoneMatch) ? 304 : 200);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private Question seedQuestion(Category category) {
+        Question question = new Question();
+        question.setSubject("subject");
+        question.setContent("content");
+        question.setCategory(category);
+        question.setAuthor(this.author);
+        question.setCreateDate(LocalDateTime.now());
+        return this.questionRepository.save(question);
+    }
+}
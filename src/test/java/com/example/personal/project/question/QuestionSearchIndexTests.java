@@ -0,0 +1,95 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.answer.Answer;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.user.SiteUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 데이터베이스 없이 색인을 직접 갱신하여 검색 결과를 확인합니다.
+class QuestionSearchIndexTests {
+
+    private final QuestionSearchIndex index = new QuestionSearchIndex(null, null, false);
+
+    @Test
+    void matchesBigramsInsideWords() {
+        index(1, 1, "스프링부트 설정", "내용");
+
+        assertThat(search(1, "링부")).containsExactly(1);
+        assertThat(search(1, "부트 설정")).containsExactly(1);
+        // 모든 두 글자 조각이 있어야 하고, 순서가 바뀐 조각은 일치하지 않습니다.
+        assertThat(search(1, "부스")).isEmpty();
+        assertThat(search(1, "스프링 자바")).isEmpty();
+        // 한 글자 검색어는 글자 단위로 찾고, 영문은 대소문자를 구분하지 않습니다.
+        assertThat(search(1, "트")).containsExactly(1);
+        index(2, 1, "JPA", "내용");
+        assertThat(search(1, "jp")).containsExactly(2);
+    }
+
+    @Test
+    void searchesOnlyTheGivenCategory() {
+        index(1, 1, "자바 질문", "내용");
+        index(2, 2, "자바 질문", "내용");
+
+        assertThat(search(1, "자바")).containsExactly(1);
+        assertThat(search(2, "자바")).containsExactly(2);
+        assertThat(search(3, "자바")).isEmpty();
+    }
+
+    @Test
+    void ranksSubjectMatchesFirstAndNewerQuestionsOnTies() {
+        index(1, 1, "질문", "자바 내용");
+        index(2, 1, "자바 질문", "내용");
+        index(3, 1, "질문", "자바 내용");
+
+        // 제목에 있는 질문이 먼저 오고, 점수가 같으면 ID가 큰 질문이 먼저 옵니다.
+        assertThat(search(1, "자바")).containsExactly(2, 3, 1);
+    }
+
+    @Test
+    void reflectsAnswersAndRemovals() {
+        Question question = index(1, 1, "질문", "내용");
+        Answer answer = new Answer();
+        answer.setId(10);
+        answer.setQuestion(question);
+        answer.setContent("코틀린 답변");
+        this.index.indexAnswer(answer);
+        assertThat(search(1, "코틀린")).containsExactly(1);
+
+        this.index.removeAnswer(answer);
+        assertThat(search(1, "코틀린")).isEmpty();
+
+        this.index.removeQuestion(1);
+        assertThat(search(1, "질문")).isEmpty();
+    }
+
+    private Question index(int id,
+                           int categoryId,
+                           String subject,
+                           String content) {
+
+        Category category = new Category();
+        category.setId(categoryId);
+        SiteUser author = new SiteUser();
+        author.setUsername("user");
+
+        Question question = new Question();
+        question.setId(id);
+        question.setCategory(category);
+        question.setAuthor(author);
+        question.setSubject(subject);
+        question.setContent(content);
+        this.index.indexQuestion(question);
+        return question;
+    }
+
+    private List<Integer> search(int categoryId,
+                                 String kw) {
+
+        return this.index.search(categoryId, kw, PageRequest.of(0, 10)).getContent();
+    }
+}
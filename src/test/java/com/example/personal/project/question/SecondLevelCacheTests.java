@@ -0,0 +1,86 @@
+package com.example.personal.project.question;
+
+import com.example.personal.project.answer.AnswerService;
+import com.example.personal.project.category.Category;
+import com.example.personal.project.category.CategoryService;
+import com.example.personal.project.comment.CommentService;
+import com.example.personal.project.user.SiteUser;
+import com.example.personal.project.user.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 답변, 댓글, 추천으로 한 질문의 카운터가 바뀌어도 다른 질문은 2차 캐시에 남아 있는지 확인합니다.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:second-level-cache;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class SecondLevelCacheTests {
+
+    private static final String REGION = Question.class.getName();
+    private static final int QUESTIONS = 20;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private QuestionViewCounter questionViewCounter;
+
+    @Test
+    void counterWritesEvictOnlyTheChangedQuestion() {
+        SiteUser user = this.userService.create("cache-user", "cache-user@example.com", "password");
+        Category category = this.categoryService.getCategoryByTitle("cache");
+        for (int i = 0; i < QUESTIONS; i++) {
+            this.questionService.create("캐시 질문 " + i, "본문 " + i, user, category);
+        }
+        List<Integer> ids = this.questionRepository.findByCategory(category, PageRequest.of(0, QUESTIONS))
+                .map(Question::getId).getContent();
+        ids.forEach(this.questionService::getQuestion); // 캐시 채우기
+
+        // 한 질문에 답변, 댓글, 추천을 추가하고 조회수를 반영합니다.
+        Question written = this.questionService.getQuestion(ids.get(0));
+        this.answerService.create(written, "답변", user);
+        this.commentService.create(written, "댓글", user);
+        this.questionService.vote(written, this.userService.create("cache-voter", "cache-voter@example.com", "password"));
+        ids.forEach(this.questionViewCounter::increment);
+        this.questionViewCounter.flush();
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ids.forEach(this.questionService::getQuestion);
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(REGION);
+        assertThat(region.getHitCount()).isEqualTo(QUESTIONS - 1);
+        assertThat(region.getMissCount()).isEqualTo(1);
+
+        // 바뀐 질문은 데이터베이스에서 다시 읽어 새 카운터를 보여 줍니다.
+        Question reloaded = this.questionService.getQuestion(ids.get(0));
+        assertThat(reloaded.getAnswerCount()).isEqualTo(1);
+        assertThat(reloaded.getCommentCount()).isEqualTo(1);
+        assertThat(reloaded.getVoteCount()).isEqualTo(1);
+    }
+}